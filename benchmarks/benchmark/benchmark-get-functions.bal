@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkworkers;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,13 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addArrayFunctions();
+    addUnionFunctions();
+    addTableFunctions();
+    addQueryFunctions();
+    addErrorFunctions();
+    addCloneFunctions();
+    addWorkerFunctions();
 }
 
 function addJSONFunctions() {
@@ -113,6 +121,8 @@ function addIoFunctions() {
     functions["benchmarkInitFileChannelAppendMode"] = benchmarkio:benchmarkInitFileChannelAppendMode;
     functions["benchmarkReadBytes"] = benchmarkio:benchmarkReadBytes;
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
+    functions["benchmarkReadJson"] = benchmarkio:benchmarkReadJson;
+    functions["benchmarkParseJsonBytes"] = benchmarkio:benchmarkParseJsonBytes;
 }
 
 function addStringFunctions() {
@@ -139,4 +149,51 @@ function addStringFunctions() {
     functions["benchmarkStringLength"] = benchmarktypes:benchmarkStringLength;
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
+    functions["benchmarkStringConcatInLoop"] = benchmarktypes:benchmarkStringConcatInLoop;
+    functions["benchmarkNonBmpStringConcatInLoop"] = benchmarktypes:benchmarkNonBmpStringConcatInLoop;
+}
+
+function addArrayFunctions() {
+    functions["benchmarkEmptyArrayCreation"] = benchmarktypes:benchmarkEmptyArrayCreation;
+    functions["benchmarkSingleElementArrayCreation"] = benchmarktypes:benchmarkSingleElementArrayCreation;
+    functions["benchmarkTenElementArrayCreation"] = benchmarktypes:benchmarkTenElementArrayCreation;
+    functions["benchmarkSmallJsonArrayParsing"] = benchmarktypes:benchmarkSmallJsonArrayParsing;
+}
+
+function addUnionFunctions() {
+    functions["benchmarkUnionTypeMatch"] = benchmarktypes:benchmarkUnionTypeMatch;
+    functions["benchmarkUnionTypeMatchOnAny"] = benchmarktypes:benchmarkUnionTypeMatchOnAny;
+}
+
+function addTableFunctions() {
+    functions["benchmarkTableAdd"] = benchmarktypes:benchmarkTableAdd;
+    functions["benchmarkTableGet"] = benchmarktypes:benchmarkTableGet;
+    functions["benchmarkTableRemove"] = benchmarktypes:benchmarkTableRemove;
+    functions["benchmarkTableIteration"] = benchmarktypes:benchmarkTableIteration;
+}
+
+function addQueryFunctions() {
+    functions["benchmarkQueryWhereSelect"] = benchmarktypes:benchmarkQueryWhereSelect;
+    functions["benchmarkQueryLetLimitSelect"] = benchmarktypes:benchmarkQueryLetLimitSelect;
+    functions["benchmarkQueryOrderByConstantLimit"] = benchmarktypes:benchmarkQueryOrderByConstantLimit;
+    functions["benchmarkQueryOrderByVariableLimit"] = benchmarktypes:benchmarkQueryOrderByVariableLimit;
+    functions["benchmarkQueryGroupByAggregate"] = benchmarktypes:benchmarkQueryGroupByAggregate;
+}
+
+function addErrorFunctions() {
+    functions["benchmarkErrorReturn"] = benchmarktypes:benchmarkErrorReturn;
+    functions["benchmarkErrorReturnFromDeepStack"] = benchmarktypes:benchmarkErrorReturnFromDeepStack;
+    functions["benchmarkErrorCheckPropagation"] = benchmarktypes:benchmarkErrorCheckPropagation;
+}
+
+function addCloneFunctions() {
+    functions["benchmarkCloneReadOnlyOfReadOnlyJson"] = benchmarktypes:benchmarkCloneReadOnlyOfReadOnlyJson;
+    functions["benchmarkCloneOfReadOnlyJson"] = benchmarktypes:benchmarkCloneOfReadOnlyJson;
+    functions["benchmarkCloneReadOnlyOfMutableJson"] = benchmarktypes:benchmarkCloneReadOnlyOfMutableJson;
+}
+
+function addWorkerFunctions() {
+    functions["benchmarkStartWaitFanOut"] = benchmarkworkers:benchmarkStartWaitFanOut;
+    functions["benchmarkStartWaitChained"] = benchmarkworkers:benchmarkStartWaitChained;
+    functions["benchmarkWorkerSendReceive"] = benchmarkworkers:benchmarkWorkerSendReceive;
 }
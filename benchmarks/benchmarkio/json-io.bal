@@ -0,0 +1,18 @@
+import ballerina/io;
+
+public function benchmarkReadJson() {
+    io:ReadableByteChannel byteChannel;
+    byteChannel = io:openReadableFile("benchmarkio/resources/testJson.txt");
+    io:ReadableCharacterChannel charChannel = new(byteChannel, "UTF-8");
+    var result = charChannel.readJson();
+    var results = charChannel.close();
+}
+
+public function benchmarkParseJsonBytes() {
+    string text = "{\"name\":\"Ballerina\",\"version\":1.0,\"tags\":[\"json\",\"utf-8\",\"දත්ත\"],\"valid\":true}";
+    byte[] content = text.toByteArray("UTF-8");
+    io:ReadableByteChannel byteChannel = io:createReadableChannel(content);
+    io:ReadableCharacterChannel charChannel = new(byteChannel, "UTF-8");
+    var result = charChannel.readJson();
+    var results = charChannel.close();
+}
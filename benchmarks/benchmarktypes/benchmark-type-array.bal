@@ -0,0 +1,38 @@
+public function benchmarkEmptyArrayCreation() {
+    int[][] arrays = [];
+    int i = 0;
+    while (i < 1000) {
+        int[] arr = [];
+        arrays[i] = arr;
+        i = i + 1;
+    }
+}
+
+public function benchmarkSingleElementArrayCreation() {
+    int[][] arrays = [];
+    int i = 0;
+    while (i < 1000) {
+        int[] arr = [i];
+        arrays[i] = arr;
+        i = i + 1;
+    }
+}
+
+public function benchmarkTenElementArrayCreation() {
+    int[][] arrays = [];
+    int i = 0;
+    while (i < 1000) {
+        int[] arr = [i, i, i, i, i, i, i, i, i, i];
+        arrays[i] = arr;
+        i = i + 1;
+    }
+}
+
+public function benchmarkSmallJsonArrayParsing() {
+    string payload = "[[], [1], [1, 2, 3, 4, 5, 6, 7, 8, 9, 10], [\"a\", \"b\"], [{\"id\": 1, \"tags\": [\"x\"]}]]";
+    int i = 0;
+    while (i < 100) {
+        json|error result = payload.fromJsonString();
+        i = i + 1;
+    }
+}
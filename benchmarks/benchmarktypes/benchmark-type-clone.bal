@@ -0,0 +1,41 @@
+// Number of entries in the json tree, which is about 10 MB when serialized.
+const int CLONE_JSON_ENTRY_COUNT = 20000;
+
+const string CLONE_JSON_NOTE = "Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor " +
+    "incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco " +
+    "laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit " +
+    "esse cillum dolore eu fugiat nulla pariatur.";
+
+final json largeJson = createLargeJson();
+
+final readonly & json largeReadOnlyJson = largeJson.cloneReadOnly();
+
+public function benchmarkCloneReadOnlyOfReadOnlyJson() {
+    // the value is already immutable, so it is returned without copying
+    json value = largeReadOnlyJson.cloneReadOnly();
+}
+
+public function benchmarkCloneOfReadOnlyJson() {
+    json value = largeReadOnlyJson.clone();
+}
+
+public function benchmarkCloneReadOnlyOfMutableJson() {
+    json value = largeJson.cloneReadOnly();
+}
+
+function createLargeJson() returns json {
+    json[] entries = [];
+    foreach int i in 0 ..< CLONE_JSON_ENTRY_COUNT {
+        entries.push({
+            id: i,
+            name: "customer-" + i.toString(),
+            email: "customer-" + i.toString() + "@example.com",
+            active: i % 2 == 0,
+            balance: <float>i * 1.5,
+            tags: ["tag-" + (i % 10).toString(), "tag-" + (i % 7).toString()],
+            address: {street: i.toString() + " Main Street", city: "Colombo", zip: 10000 + i},
+            notes: CLONE_JSON_NOTE + " " + i.toString()
+        });
+    }
+    return {entries};
+}
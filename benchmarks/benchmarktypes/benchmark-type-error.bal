@@ -0,0 +1,47 @@
+type ParseError distinct error<record {|int position;|}>;
+
+const int ERROR_CALL_DEPTH = 20;
+
+// The cost of these is dominated by capturing the stack trace of the error, which can be limited with the
+// BALLERINA_ERROR_STACK_DEPTH environment variable or the ballerina.error.stack.depth system property.
+public function benchmarkErrorReturn() {
+    int|error result = parseDigit("x", 0);
+    if result is error {
+        string message = result.message();
+    }
+}
+
+public function benchmarkErrorReturnFromDeepStack() {
+    int|error result = parseDigitNested("x", ERROR_CALL_DEPTH);
+    if result is error {
+        string message = result.message();
+    }
+}
+
+public function benchmarkErrorCheckPropagation() {
+    int|error result = sumDigits("12x4");
+}
+
+function parseDigitNested(string value, int depth) returns int|error {
+    if depth > 0 {
+        return parseDigitNested(value, depth - 1);
+    }
+    return parseDigit(value, 0);
+}
+
+function sumDigits(string value) returns int|error {
+    int sum = 0;
+    foreach int i in 0 ..< value.length() {
+        sum += check parseDigit(value.substring(i, i + 1), i);
+    }
+    return sum;
+}
+
+function parseDigit(string value, int position) returns int|error {
+    match value {
+        "0"|"1"|"2"|"3"|"4"|"5"|"6"|"7"|"8"|"9" => {
+            return check int:fromString(value);
+        }
+    }
+    return error ParseError("invalid digit", position = position);
+}
@@ -0,0 +1,56 @@
+type Order record {
+    int id;
+    string status;
+    float amount;
+};
+
+const int ORDER_COUNT = 1000;
+
+public function benchmarkQueryWhereSelect() {
+    Order[] orders = createOrders();
+    float[] amounts = from Order o in orders
+        where o.status == "OPEN"
+        select o.amount;
+}
+
+public function benchmarkQueryLetLimitSelect() {
+    Order[] orders = createOrders();
+    float[] totals = from Order o in orders
+        let float total = o.amount * 1.15
+        where total > 100.0
+        limit 100
+        select total;
+}
+
+public function benchmarkQueryOrderByConstantLimit() {
+    Order[] orders = createOrders();
+    int[] topIds = from Order o in orders
+        order by o.amount descending
+        limit 10
+        select o.id;
+}
+
+public function benchmarkQueryOrderByVariableLimit() {
+    Order[] orders = createOrders();
+    // a limit that is not a constant needs all the orders to be ordered first.
+    int lmt = 10;
+    int[] topIds = from Order o in orders
+        order by o.amount descending
+        limit lmt
+        select o.id;
+}
+
+public function benchmarkQueryGroupByAggregate() {
+    Order[] orders = createOrders();
+    record {|string status; float total; int count;|}[] totals = from Order {status, amount} in orders
+        group by status
+        select {status, total: sum(amount), count: count(amount)};
+}
+
+function createOrders() returns Order[] {
+    Order[] orders = [];
+    foreach int i in 0 ..< ORDER_COUNT {
+        orders.push({ id: i, status: i % 3 == 0 ? "OPEN" : "CLOSED", amount: <float>i });
+    }
+    return orders;
+}
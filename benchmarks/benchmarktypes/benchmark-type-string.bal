@@ -122,3 +122,23 @@ public function benchmarkStringSplit() {
     string split = "test";
     string[] splittedString = str.split(split);
 }
+
+public function benchmarkStringConcatInLoop() {
+    string s = "";
+    int i = 0;
+    while (i < 1000) {
+        s = s + "item" + i.toString() + ",";
+        i = i + 1;
+    }
+    int len = s.length();
+}
+
+public function benchmarkNonBmpStringConcatInLoop() {
+    string s = "";
+    int i = 0;
+    while (i < 1000) {
+        s = s + "C\u{1F6F8}mmander " + i.toString();
+        i = i + 1;
+    }
+    int len = s.length();
+}
@@ -0,0 +1,47 @@
+type TableEmployee record {
+    readonly int id;
+    string name;
+    float salary;
+};
+
+type EmployeeTable table<TableEmployee> key(id);
+
+const int TABLE_SIZE = 1000;
+
+public function benchmarkTableAdd() {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        employees.add({ id: i, name: "employee", salary: 1000.0 });
+    }
+}
+
+public function benchmarkTableGet() {
+    EmployeeTable employees = createEmployeeTable();
+    float total = 0.0;
+    foreach int i in 0 ..< TABLE_SIZE {
+        total = total + employees.get(i).salary;
+    }
+}
+
+public function benchmarkTableRemove() {
+    EmployeeTable employees = createEmployeeTable();
+    foreach int i in 0 ..< TABLE_SIZE {
+        _ = employees.remove(i);
+    }
+}
+
+public function benchmarkTableIteration() {
+    EmployeeTable employees = createEmployeeTable();
+    float total = 0.0;
+    foreach TableEmployee employee in employees {
+        total = total + employee.salary;
+    }
+}
+
+function createEmployeeTable() returns EmployeeTable {
+    EmployeeTable employees = table [];
+    foreach int i in 0 ..< TABLE_SIZE {
+        employees.add({ id: i, name: "employee", salary: 1000.0 });
+    }
+    return employees;
+}
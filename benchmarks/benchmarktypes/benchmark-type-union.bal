@@ -0,0 +1,55 @@
+type Circle record {
+    string kind;
+    float radius;
+};
+
+type Square record {
+    string kind;
+    float side;
+};
+
+type Shape Circle|Square|int|string;
+
+public function benchmarkUnionTypeMatch() {
+    Circle circle = { kind: "circle", radius: 2.0 };
+    Square square = { kind: "square", side: 3.0 };
+    Shape[] shapes = [circle, square, 10, "shape", circle, square, 20, circle];
+    float total = 0.0;
+    foreach shape in shapes {
+        total = total + getArea(shape);
+    }
+}
+
+public function benchmarkUnionTypeMatchOnAny() {
+    Circle circle = { kind: "circle", radius: 2.0 };
+    Square square = { kind: "square", side: 3.0 };
+    any[] values = [circle, square, 10, "shape", circle, square, 20, circle];
+    float total = 0.0;
+    foreach value in values {
+        match value {
+            Shape shape => {
+                total = total + getArea(shape);
+            }
+            any a => {
+                total = total + 0.0;
+            }
+        }
+    }
+}
+
+function getArea(Shape shape) returns (float) {
+    match shape {
+        Circle c => {
+            return 3.14 * c.radius * c.radius;
+        }
+        Square s => {
+            return s.side * s.side;
+        }
+        int i => {
+            return <float>i;
+        }
+        string s => {
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+const int FAN_OUT_COUNT = 16;
+
+public function benchmarkStartWaitFanOut() {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < FAN_OUT_COUNT) {
+        futures[i] = start square(i);
+        i = i + 1;
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum = sum + wait f;
+    }
+}
+
+public function benchmarkStartWaitChained() {
+    future<int> f = start square(1);
+    int i = 0;
+    while (i < FAN_OUT_COUNT) {
+        int prev = wait f;
+        f = start square(prev % 10);
+        i = i + 1;
+    }
+    int result = wait f;
+}
+
+public function benchmarkWorkerSendReceive() {
+    worker w1 {
+        int i = 0;
+        while (i < FAN_OUT_COUNT) {
+            i -> w2;
+            i = i + 1;
+        }
+    }
+
+    worker w2 {
+        int sum = 0;
+        int i = 0;
+        while (i < FAN_OUT_COUNT) {
+            int value = <- w1;
+            sum = sum + value;
+            i = i + 1;
+        }
+    }
+
+    wait w2;
+}
+
+function square(int value) returns int {
+    return value * value;
+}
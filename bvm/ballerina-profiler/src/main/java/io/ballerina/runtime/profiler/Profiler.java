@@ -20,6 +20,7 @@ package io.ballerina.runtime.profiler;
 
 import io.ballerina.runtime.profiler.codegen.ProfilerClassLoader;
 import io.ballerina.runtime.profiler.codegen.ProfilerMethodWrapper;
+import io.ballerina.runtime.profiler.runtime.StackSampler;
 import io.ballerina.runtime.profiler.ui.HttpServer;
 import io.ballerina.runtime.profiler.ui.JsonParser;
 import io.ballerina.runtime.profiler.util.Constants;
@@ -43,6 +44,7 @@ import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR;
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
 import static io.ballerina.runtime.profiler.util.Constants.CURRENT_DIR_KEY;
 import static io.ballerina.runtime.profiler.util.Constants.OUT_STREAM;
@@ -59,6 +61,7 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private Long samplingInterval = null;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -139,6 +142,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingInterval(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -158,6 +165,18 @@ public class Profiler {
         return value.substring(1, value.length() - 1);
     }
 
+    private long extractSamplingInterval(String value) {
+        try {
+            long interval = Long.parseLong(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new ProfilerException("Invalid sampling interval found: " + value);
+    }
+
     private void handleUnrecognizedArgument(String argument, List<String> usedArgs) {
         if (!usedArgs.contains(argument)) {
             throw new ProfilerException("Unrecognized argument found: " + argument);
@@ -199,6 +218,15 @@ public class Profiler {
         } catch (Exception e) {
             throw new ProfilerException("error occurred while performing analysis", e);
         }
+        if (samplingInterval != null) {
+            if (StackSampler.isSamplingSupported(System.getenv(BALLERINA_SCHEDULER_MODE_ENV_VAR))) {
+                initializeSampling();
+                return;
+            }
+            OUT_STREAM.printf("      %sWarning: sampling is not supported when %s is set to virtual-threads, " +
+                    "instrumenting the functions instead%s%n", Constants.ANSI_YELLOW,
+                    BALLERINA_SCHEDULER_MODE_ENV_VAR, Constants.ANSI_RESET);
+        }
         OUT_STREAM.printf("%s[4/6] Instrumenting functions...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
         try (JarFile jarFile = new JarFile(balJarName)) {
             String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
@@ -229,7 +257,32 @@ public class Profiler {
         }
     }
 
+    private void initializeSampling() throws ProfilerException {
+        OUT_STREAM.printf("%s[4/6] Preparing sampler...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        try (URLClassLoader manifestClassLoader = new URLClassLoader(new URL[]{
+                new File(balJarName).toURI().toURL()})) {
+            String mainClassPackage = profilerMethodWrapper.mainClassFinder(manifestClassLoader);
+            if (mainClassPackage == null) {
+                throw new ProfilerException("Main class not found in the executable: " + balJarName);
+            }
+            // Sample the same classes that would have been instrumented.
+            List<String> sampledPackages = new ArrayList<>(utilInitPaths);
+            sampledPackages.add(mainClassPackage.split("/")[0]);
+            OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+            List<String> samplerOptions = List.of(
+                    "-D" + Constants.SAMPLING_INTERVAL_PROPERTY + "=" + samplingInterval,
+                    "-D" + Constants.SAMPLING_PACKAGES_PROPERTY + "=" + String.join(",", sampledPackages));
+            modifyJar(samplerOptions);
+        } catch (Throwable throwable) {
+            throw new ProfilerException(throwable);
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
+        modifyJar(null);
+    }
+
+    private void modifyJar(List<String> samplerOptions) throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
             listAllFiles(userDirectory); // List all files in the user directory and its subdirectories
@@ -242,7 +295,11 @@ public class Profiler {
             }
             Path filePath = Path.of("io/ballerina/runtime/profiler/runtime");
             FileUtils.deleteDirectory(new File(filePath.toString()));
-            profilerMethodWrapper.invokeMethods(profilerDebugArg);
+            if (samplerOptions == null) {
+                profilerMethodWrapper.invokeMethods(profilerDebugArg);
+            } else {
+                profilerMethodWrapper.invokeSampler(profilerDebugArg, samplerOptions);
+            }
         }
     }
 
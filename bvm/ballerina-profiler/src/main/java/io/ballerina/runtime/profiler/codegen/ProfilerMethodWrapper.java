@@ -38,6 +38,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.jar.Attributes;
+import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
 import static io.ballerina.runtime.profiler.util.Constants.CURRENT_DIR_KEY;
@@ -55,6 +56,35 @@ public class ProfilerMethodWrapper extends ClassLoader {
     public static final String JAVA_OPTS = "JAVA_OPTS";
 
     public void invokeMethods(String debugArg) throws IOException, InterruptedException {
+        List<String> commands = new ArrayList<>();
+        commands.add("-jar");
+        if (debugArg != null) {
+            commands.add(debugArg);
+        }
+        commands.add(Path.of(System.getProperty(USER_DIR), Constants.TEMP_JAR_FILE_NAME).toString());
+        runExecutable(commands);
+    }
+
+    public void invokeSampler(String debugArg, List<String> samplerOptions) throws IOException,
+            InterruptedException {
+        Path tempJarPath = Path.of(System.getProperty(USER_DIR), Constants.TEMP_JAR_FILE_NAME);
+        String mainClass;
+        try (JarFile jarFile = new JarFile(tempJarPath.toFile())) {
+            mainClass = jarFile.getManifest().getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+        }
+        List<String> commands = new ArrayList<>();
+        if (debugArg != null) {
+            commands.add(debugArg);
+        }
+        commands.addAll(samplerOptions);
+        commands.add("-cp");
+        commands.add(tempJarPath.toString());
+        commands.add(Constants.STACK_SAMPLER_CLASS);
+        commands.add(mainClass);
+        runExecutable(commands);
+    }
+
+    private void runExecutable(List<String> launchArgs) throws IOException, InterruptedException {
         String balJarArgs = Main.getBalJarArgs();
         List<String> commands = new ArrayList<>();
         String javaOpts = System.getenv().get(JAVA_OPTS);
@@ -62,11 +92,7 @@ public class ProfilerMethodWrapper extends ClassLoader {
         if (javaOpts != null) {
             commands.add(javaOpts.trim());
         }
-        commands.add("-jar");
-        if (debugArg != null) {
-            commands.add(debugArg);
-        }
-        commands.add(Path.of(System.getProperty(USER_DIR), Constants.TEMP_JAR_FILE_NAME).toString());
+        commands.addAll(launchArgs);
         if (balJarArgs != null) {
             commands.add(balJarArgs);
         }
@@ -52,6 +52,10 @@ public class Data {
         this.totalTime += elapsed;
     }
 
+    public synchronized void addTime(long elapsed) {
+        this.totalTime += elapsed;
+    }
+
     private String getFormattedStats() {
         return "{" + "\"time\": \"" + this.totalTime + "\", " + "\"stackTrace\": " + this.stackTrace + "}";
     }
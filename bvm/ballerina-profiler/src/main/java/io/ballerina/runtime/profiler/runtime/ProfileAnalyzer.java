@@ -26,6 +26,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
@@ -41,15 +42,18 @@ public class ProfileAnalyzer {
     private final ConcurrentHashMap<String, Data> profiles = new ConcurrentHashMap<>();
 
     private static class ProfilerHolder {
-        private static final ProfileAnalyzer PROFILER_INSTANCE = new ProfileAnalyzer();
+        private static final ProfileAnalyzer PROFILER_INSTANCE = new ProfileAnalyzer(true);
     }
 
     public static ProfileAnalyzer getInstance() {
         return ProfilerHolder.PROFILER_INSTANCE;
     }
 
-    private ProfileAnalyzer() {
-        addProfilerShutDownHook();
+    // Only the shared instance writes its profiles on shutdown, others are used to test the recorded profiles.
+    ProfileAnalyzer(boolean printOutputOnShutdown) {
+        if (printOutputOnShutdown) {
+            addProfilerShutDownHook();
+        }
     }
 
     public Data start(Strand strand, String className, String methodName) {
@@ -81,9 +85,29 @@ public class ProfileAnalyzer {
                 data.stackKey.length() - data.stackIndex.length()));
     }
 
+    /**
+     * Records a stack sample taken by the {@link StackSampler}. The elapsed time is added to every call stack prefix
+     * of the sample, so that the recorded times are inclusive in the same way as the instrumented profiles.
+     *
+     * @param frames      Ballerina frames of the sample, ordered from the root of the stack
+     * @param elapsedTime time represented by the sample in milliseconds
+     */
+    public void addSample(List<String> frames, long elapsedTime) {
+        StringBuilder stackKeyBuilder = new StringBuilder();
+        for (String frame : frames) {
+            String stackIndex = StackTraceMap.getStackIndex(frame) + "$";
+            String stackKey = stackKeyBuilder.append(stackIndex).toString();
+            Data data = this.profiles.computeIfAbsent(stackKey, key -> new Data(stackIndex, key));
+            data.addTime(elapsedTime);
+        }
+    }
+
     public final String getProfileStackString() {
         StringBuilder sb = new StringBuilder("[");
         ArrayList<Data> dataList = new ArrayList<>(this.profiles.values());
+        if (dataList.isEmpty()) {
+            return sb.append("]").toString();
+        }
         for (int i = 0; i < (dataList.size() - 1); i++) {
             Data data = dataList.get(i);
             data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
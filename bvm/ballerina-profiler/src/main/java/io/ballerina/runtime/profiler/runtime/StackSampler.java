@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR;
+import static io.ballerina.runtime.profiler.util.Constants.DEFAULT_SAMPLING_INTERVAL;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_INTERVAL_PROPERTY;
+import static io.ballerina.runtime.profiler.util.Constants.SAMPLING_PACKAGES_PROPERTY;
+
+/**
+ * This class is used as the entry point of the sampling mode of the Ballerina profiler.
+ * Instead of instrumenting every Ballerina function, it periodically walks the stacks of the live threads, maps the
+ * JVM frames back to Ballerina functions and records each sample in the {@link ProfileAnalyzer}, which then produces
+ * the same profile output as the instrumented mode.
+ * <p>
+ * The stacks of virtual threads are not available through {@link Thread#getAllStackTraces()}, hence sampling is not
+ * supported when the strands run on virtual threads, i.e. in the virtual-threads scheduler mode.
+ *
+ * @since 2201.11.0
+ */
+public final class StackSampler {
+
+    private static final String GENERATED_METHOD_MARKER = "$gen$";
+    private static final String VIRTUAL_THREADS_SCHEDULER_MODE = "virtual-threads";
+
+    private final ProfileAnalyzer profileAnalyzer;
+    private final long samplingInterval;
+    private final List<String> packagePrefixes = new ArrayList<>();
+    private final List<String> packagePaths = new ArrayList<>();
+
+    StackSampler(ProfileAnalyzer profileAnalyzer, long samplingInterval, String packages) {
+        this.profileAnalyzer = profileAnalyzer;
+        this.samplingInterval = samplingInterval;
+        for (String pkg : packages.split(",")) {
+            if (pkg.isEmpty()) {
+                continue;
+            }
+            // Entries ending with a '/' only match the classes directly inside that package.
+            if (pkg.endsWith("/")) {
+                packagePaths.add(pkg);
+            } else {
+                packagePrefixes.add(pkg);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Throwable {
+        if (args.length == 0) {
+            throw new ProfilerRuntimeException("Main class of the Ballerina program is not provided");
+        }
+        if (!isSamplingSupported(System.getenv(BALLERINA_SCHEDULER_MODE_ENV_VAR))) {
+            throw new ProfilerRuntimeException("sampling is not supported in the " + VIRTUAL_THREADS_SCHEDULER_MODE +
+                    " scheduler mode");
+        }
+        long samplingInterval = Long.getLong(SAMPLING_INTERVAL_PROPERTY, DEFAULT_SAMPLING_INTERVAL);
+        String packages = System.getProperty(SAMPLING_PACKAGES_PROPERTY, "");
+        StackSampler sampler = new StackSampler(ProfileAnalyzer.getInstance(), samplingInterval, packages);
+        sampler.start();
+        Method mainMethod = Class.forName(args[0]).getMethod("main", String[].class);
+        try {
+            mainMethod.invoke(null, (Object) Arrays.copyOfRange(args, 1, args.length));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns whether the strands of a program run in the given scheduler mode can be sampled.
+     *
+     * @param schedulerMode value of the {@code BALLERINA_SCHEDULER_MODE} environment variable, if set
+     * @return false if the strands run on virtual threads, true otherwise
+     */
+    public static boolean isSamplingSupported(String schedulerMode) {
+        return !VIRTUAL_THREADS_SCHEDULER_MODE.equalsIgnoreCase(schedulerMode);
+    }
+
+    private void start() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-profiler-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::sample, samplingInterval, samplingInterval, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        Thread samplerThread = Thread.currentThread();
+        for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+            if (entry.getKey() == samplerThread) {
+                continue;
+            }
+            List<String> frames = getBallerinaFrames(entry.getValue());
+            if (!frames.isEmpty()) {
+                profileAnalyzer.addSample(frames, samplingInterval);
+            }
+        }
+    }
+
+    List<String> getBallerinaFrames(StackTraceElement[] stackTrace) {
+        List<String> frames = new ArrayList<>();
+        // Stack traces are ordered from the innermost frame, whereas the profile stacks start from the root.
+        for (int i = stackTrace.length - 1; i >= 0; i--) {
+            StackTraceElement element = stackTrace[i];
+            String methodName = element.getMethodName();
+            String className = element.getClassName().replace('.', '/');
+            if (methodName.contains(GENERATED_METHOD_MARKER) || className.contains(GENERATED_METHOD_MARKER) ||
+                    !isBallerinaClass(className)) {
+                continue;
+            }
+            frames.add(className + "." + methodName);
+        }
+        return frames;
+    }
+
+    private boolean isBallerinaClass(String className) {
+        for (String prefix : packagePrefixes) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (String path : packagePaths) {
+            if (className.startsWith(path) && className.indexOf('/', path.length()) == -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
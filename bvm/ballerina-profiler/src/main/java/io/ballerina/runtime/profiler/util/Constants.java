@@ -58,6 +58,10 @@ public final class Constants {
     public static final String HTML_PROFILER_REPORT = "ProfilerReport.html";
     public static final String CURRENT_DIR_KEY = "current.dir";
     public static final String USER_DIR = "user.dir";
+    public static final String STACK_SAMPLER_CLASS = "io.ballerina.runtime.profiler.runtime.StackSampler";
+    public static final String SAMPLING_INTERVAL_PROPERTY = "ballerina.profiler.sampling.interval";
+    public static final String SAMPLING_PACKAGES_PROPERTY = "ballerina.profiler.sampling.packages";
+    public static final long DEFAULT_SAMPLING_INTERVAL = 10L;
 
     private Constants() {
     }
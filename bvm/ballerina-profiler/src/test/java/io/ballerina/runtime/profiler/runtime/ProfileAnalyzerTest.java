@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for the samples recorded by the {@link ProfileAnalyzer}.
+ *
+ * @since 2201.11.0
+ */
+public class ProfileAnalyzerTest {
+
+    @Test
+    public void testAddSample() {
+        ProfileAnalyzer profileAnalyzer = new ProfileAnalyzer(false);
+        profileAnalyzer.addSample(List.of("sampleorg/app/0/main.main", "sampleorg/app/0/main.foo"), 10);
+        profileAnalyzer.addSample(List.of("sampleorg/app/0/main.main", "sampleorg/app/0/main.bar"), 10);
+        profileAnalyzer.addSample(List.of("sampleorg/app/0/main.main", "sampleorg/app/0/main.foo"), 5);
+        profileAnalyzer.addSample(List.of("sampleorg/app/0/main.foo"), 20);
+
+        // The time of a sample is added to every prefix of its stack
+        String profiles = profileAnalyzer.getProfileStackString();
+        Assert.assertTrue(profiles.contains("{\"time\": \"25\", \"stackTrace\": [\"sampleorg/app/0/main.main\"]}"),
+                profiles);
+        Assert.assertTrue(profiles.contains("{\"time\": \"15\", \"stackTrace\": " +
+                "[\"sampleorg/app/0/main.main\",\"sampleorg/app/0/main.foo\"]}"), profiles);
+        Assert.assertTrue(profiles.contains("{\"time\": \"10\", \"stackTrace\": " +
+                "[\"sampleorg/app/0/main.main\",\"sampleorg/app/0/main.bar\"]}"), profiles);
+        // The same function called from a different stack is recorded separately
+        Assert.assertTrue(profiles.contains("{\"time\": \"20\", \"stackTrace\": [\"sampleorg/app/0/main.foo\"]}"),
+                profiles);
+        Assert.assertEquals(profiles.split("\"time\"").length - 1, 4, profiles);
+    }
+
+    @Test
+    public void testWithoutSamples() {
+        ProfileAnalyzer profileAnalyzer = new ProfileAnalyzer(false);
+        profileAnalyzer.addSample(List.of(), 10);
+        Assert.assertEquals(profileAnalyzer.getProfileStackString(), "[]");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test cases for {@link StackSampler}.
+ *
+ * @since 2201.11.0
+ */
+public class StackSamplerTest {
+
+    // Ordered from the innermost frame, as returned by Thread#getStackTrace.
+    private static final StackTraceElement[] STACK_TRACE = new StackTraceElement[]{
+            frame("ballerina.lang$0046int.0.sub.Helper", "apply"),
+            frame("ballerina.lang$0046int.0.Sum", "sum"),
+            frame("myorg.app.0.utils", "$gen$lambda$0"),
+            frame("myorg.app.0.$gen$anon", "call"),
+            frame("myorg.app.0.utils", "calculate"),
+            frame("myorg.app.0.main", "main"),
+            frame("io.ballerina.runtime.internal.scheduling.Scheduler", "run"),
+            frame("java.lang.Thread", "run")
+    };
+
+    @Test
+    public void testGetBallerinaFrames() {
+        StackSampler sampler = new StackSampler(new ProfileAnalyzer(false), 10, "myorg,ballerina/lang$0046int/0/");
+        // The frames start from the root and skip the generated methods and the classes of other packages, as
+        // well as the classes in the sub packages of an entry ending with a '/'.
+        Assert.assertEquals(sampler.getBallerinaFrames(STACK_TRACE),
+                List.of("myorg/app/0/main.main", "myorg/app/0/utils.calculate", "ballerina/lang$0046int/0/Sum.sum"));
+    }
+
+    @Test
+    public void testGetBallerinaFramesOfOtherPackages() {
+        StackSampler sampler = new StackSampler(new ProfileAnalyzer(false), 10, "otherorg,ballerina/lang$0046float/");
+        Assert.assertTrue(sampler.getBallerinaFrames(STACK_TRACE).isEmpty());
+
+        sampler = new StackSampler(new ProfileAnalyzer(false), 10, "");
+        Assert.assertTrue(sampler.getBallerinaFrames(STACK_TRACE).isEmpty());
+        Assert.assertTrue(sampler.getBallerinaFrames(new StackTraceElement[0]).isEmpty());
+    }
+
+    @Test
+    public void testIsSamplingSupported() {
+        Assert.assertTrue(StackSampler.isSamplingSupported(null));
+        Assert.assertTrue(StackSampler.isSamplingSupported("work-stealing"));
+        Assert.assertFalse(StackSampler.isSamplingSupported("virtual-threads"));
+        Assert.assertFalse(StackSampler.isSamplingSupported("VIRTUAL-THREADS"));
+    }
+
+    private static StackTraceElement frame(String className, String methodName) {
+        return new StackTraceElement(className, methodName, null, -1);
+    }
+}
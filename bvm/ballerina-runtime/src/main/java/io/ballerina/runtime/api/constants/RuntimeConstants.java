@@ -59,6 +59,10 @@ public final class RuntimeConstants {
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String BALLERINA_PACKAGE_PREFIX = "ballerina" + ORG_NAME_SEPARATOR;
     public static final String BALLERINA_MAX_POOL_SIZE_ENV_VAR = "BALLERINA_MAX_POOL_SIZE";
+    public static final String BALLERINA_SCHEDULER_MODE_ENV_VAR = "BALLERINA_SCHEDULER_MODE";
+    public static final String BALLERINA_FRAME_RECYCLING_ENV_VAR = "BALLERINA_FRAME_RECYCLING";
+    public static final String BALLERINA_ERROR_STACK_DEPTH_ENV_VAR = "BALLERINA_ERROR_STACK_DEPTH";
+    public static final String BALLERINA_ERROR_STACK_DEPTH_PROPERTY = "ballerina.error.stack.depth";
     public static final Module BALLERINA_LANG_ERROR_PKG_ID = new Module(BALLERINA_BUILTIN_PKG_PREFIX,
                                                                         "lang.error", "0");
 
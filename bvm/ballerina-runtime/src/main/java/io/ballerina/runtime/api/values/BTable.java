@@ -17,7 +17,9 @@
  */
 package io.ballerina.runtime.api.values;
 
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
 
 import java.util.Collection;
 import java.util.Map;
@@ -197,4 +199,32 @@ public interface BTable<K, V> extends BRefValue, BCollection {
     long getNextKey();
 
     V put(V data);
+
+    /**
+     * Declares a secondary index on a readonly field of the rows, which is not part of the key sequence of the table.
+     * The index is kept up to date as rows are added, replaced and removed, and is used to find the rows of query
+     * expressions whose where clause compares the field with a value. A hash index supports equality and a sorted
+     * index also supports ordering comparisons. Only {@code int}, {@code byte}, {@code string}, {@code boolean} and
+     * optional fields of those types can be indexed.
+     *
+     * Tables which do not support secondary indexes panic with an error.
+     *
+     * @param fieldName name of the field to index
+     * @param sorted    whether the index should support ordering comparisons
+     * @since 2201.11.0
+     */
+    default void addIndex(BString fieldName, boolean sorted) {
+        throw ErrorCreator.createError(StringUtils.fromString("'addIndex()' not allowed on '" + getType() + "'"));
+    }
+
+    /**
+     * Checks whether there is a secondary index on the given field.
+     *
+     * @param fieldName name of the field
+     * @return true if the field is indexed
+     * @since 2201.11.0
+     */
+    default boolean hasIndex(BString fieldName) {
+        return false;
+    }
 }
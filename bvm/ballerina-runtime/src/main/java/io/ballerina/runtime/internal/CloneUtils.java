@@ -21,8 +21,9 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BRefValue;
+import io.ballerina.runtime.internal.values.CloneRefs;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 import static io.ballerina.runtime.internal.TypeConverter.ERROR_MESSAGE_UNION_END;
@@ -54,11 +55,20 @@ public final class CloneUtils {
             return null;
         }
 
-        if (!(value instanceof BRefValue refValue)) {
+        if (!(value instanceof BRefValue refValue) || refValue.isFrozen()) {
+            // Immutable values are shared rather than copied.
             return value;
         }
 
-        return refValue.copy(new HashMap<>());
+        CloneRefs refs = new CloneRefs();
+        try {
+            return refValue.copy(refs);
+        } catch (CloneRefs.Revisited e) {
+            // The value has cycles or shared members, which need the copies recorded in a map.
+            return refValue.copy(new IdentityHashMap<>());
+        } finally {
+            refs.release();
+        }
     }
 
     /**
@@ -73,11 +83,18 @@ public final class CloneUtils {
             return null;
         }
 
-        if (!(value instanceof BRefValue refValue)) {
+        if (!(value instanceof BRefValue refValue) || refValue.isFrozen()) {
             return value;
         }
 
-        return refValue.frozenCopy(new HashMap<>());
+        CloneRefs refs = new CloneRefs();
+        try {
+            return refValue.frozenCopy(refs);
+        } catch (CloneRefs.Revisited e) {
+            return refValue.frozenCopy(new IdentityHashMap<>());
+        } finally {
+            refs.release();
+        }
     }
 
     public static BError createConversionError(Object value, Type targetType, List<String> errors) {
@@ -521,13 +521,13 @@ public final class JsonInternalUtils {
             case TypeTags.BOOLEAN_TAG:
                 return jsonArrayToBooleanArray(jsonArray);
             case TypeTags.ANY_TAG:
-                ArrayValue array = new ArrayValueImpl(targetArrayType);
+                ArrayValue array = new ArrayValueImpl(targetArrayType, targetArrayType.getSize(), jsonArray.size());
                 for (int i = 0; i < jsonArray.size(); i++) {
                     array.add(i, jsonArray.getRefValue(i));
                 }
                 return array;
             default:
-                array = new ArrayValueImpl(targetArrayType);
+                array = new ArrayValueImpl(targetArrayType, targetArrayType.getSize(), jsonArray.size());
                 for (int i = 0; i < jsonArray.size(); i++) {
                     array.append(convertJSON(jsonArray.getRefValue(i), targetElementType));
                 }
@@ -628,7 +628,7 @@ public final class JsonInternalUtils {
     }
 
     private static ArrayValue jsonArrayToBIntArray(ArrayValue arrayNode) {
-        ArrayValue intArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_INT));
+        ArrayValue intArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_INT), -1, arrayNode.size());
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             intArray.add(i, jsonNodeToInt(jsonValue));
@@ -637,7 +637,7 @@ public final class JsonInternalUtils {
     }
 
     private static ArrayValue jsonArrayToBFloatArray(ArrayValue arrayNode) {
-        ArrayValue floatArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_FLOAT));
+        ArrayValue floatArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_FLOAT), -1, arrayNode.size());
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             floatArray.add(i, jsonNodeToFloat(jsonValue));
@@ -646,7 +646,8 @@ public final class JsonInternalUtils {
     }
 
     private static ArrayValue jsonArrayToBDecimalArray(ArrayValue arrayNode) {
-        ArrayValue decimalArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_DECIMAL));
+        ArrayValue decimalArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_DECIMAL), -1,
+                arrayNode.size());
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             decimalArray.add(i, jsonNodeToDecimal(jsonValue));
@@ -655,7 +656,7 @@ public final class JsonInternalUtils {
     }
 
     private static ArrayValue jsonArrayToBStringArray(ArrayValue arrayNode) {
-        ArrayValue stringArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_STRING));
+        ArrayValue stringArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_STRING), -1, arrayNode.size());
         for (int i = 0; i < arrayNode.size(); i++) {
             stringArray.add(i, arrayNode.getRefValue(i).toString());
         }
@@ -663,7 +664,8 @@ public final class JsonInternalUtils {
     }
 
     private static ArrayValue jsonArrayToBooleanArray(ArrayValue arrayNode) {
-        ArrayValue booleanArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_BOOLEAN));
+        ArrayValue booleanArray = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_BOOLEAN), -1,
+                arrayNode.size());
         for (int i = 0; i < arrayNode.size(); i++) {
             Object jsonValue = arrayNode.getRefValue(i);
             booleanArray.add(i, jsonNodeToBoolean(jsonValue));
@@ -678,7 +680,7 @@ public final class JsonInternalUtils {
      * @return JSON representation of the provided refValueArray
      */
     private static ArrayValue convertRefArrayToJSON(BArray refValueArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON), -1, refValueArray.size());
         for (int i = 0; i < refValueArray.size(); i++) {
             Object value = refValueArray.getRefValue(i);
             if (value == null) {
@@ -713,7 +715,7 @@ public final class JsonInternalUtils {
      * @return JSON representation of the provided intArray
      */
     private static ArrayValue convertIntArrayToJSON(BArray intArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON), -1, intArray.size());
         for (int i = 0; i < intArray.size(); i++) {
             long value = intArray.getInt(i);
             json.append(value);
@@ -728,7 +730,7 @@ public final class JsonInternalUtils {
      * @return JSON representation of the provided floatArray
      */
     private static ArrayValue convertFloatArrayToJSON(BArray floatArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON), -1, floatArray.size());
         for (int i = 0; i < floatArray.size(); i++) {
             double value = floatArray.getFloat(i);
             json.append(value);
@@ -743,7 +745,7 @@ public final class JsonInternalUtils {
      * @return JSON representation of the provided stringArray
      */
     private static ArrayValue convertStringArrayToJSON(BArray stringArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON), -1, stringArray.size());
         for (int i = 0; i < stringArray.size(); i++) {
             json.append(stringArray.getBString(i));
         }
@@ -757,7 +759,7 @@ public final class JsonInternalUtils {
      * @return JSON representation of the provided booleanArray
      */
     private static ArrayValue convertBooleanArrayToJSON(BArray booleanArray) {
-        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON));
+        ArrayValue json = new ArrayValueImpl(new BArrayType(PredefinedTypes.TYPE_JSON), -1, booleanArray.size());
         for (int i = 0; i < booleanArray.size(); i++) {
             boolean value = booleanArray.getBoolean(i);
             json.append(value);
@@ -63,20 +63,26 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static io.ballerina.runtime.api.creators.ErrorCreator.createError;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_DECIMAL_STRING;
 import static io.ballerina.runtime.api.utils.JsonUtils.NonStringValueProcessingMode.FROM_JSON_FLOAT_STRING;
 import static io.ballerina.runtime.internal.ErrorUtils.createConversionError;
-import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.createRecordValueWithoutDefaultValues;
+import static io.ballerina.runtime.internal.ValueUtils.populateDefaultValues;
 
 /**
  * This class represents a {@link InputStream} parser which creates a value of the given target type
@@ -114,6 +120,9 @@ public final class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
+        if (isUtf8(charsetName)) {
+            return parse(targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING, sm -> sm.execute(in));
+        }
         try {
             return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
         } catch (IOException e) {
@@ -122,6 +131,45 @@ public final class JsonParser {
         }
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a value of the given target type.
+     *
+     * @param bytes      UTF-8 encoded content
+     * @param targetType the target type
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(byte[] bytes, Type targetType) throws BError {
+        return parse(targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING,
+                sm -> sm.execute(bytes, 0, bytes.length));
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer and returns a value of the given target type.
+     * The position of the buffer is moved to its limit.
+     *
+     * @param buffer     buffer with UTF-8 encoded content
+     * @param targetType the target type
+     * @return value of the given target type
+     * @throws BError for any parsing error
+     */
+    public static Object parse(ByteBuffer buffer, Type targetType) throws BError {
+        byte[] bytes;
+        int offset;
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            bytes = buffer.array();
+            offset = buffer.arrayOffset() + buffer.position();
+            buffer.position(buffer.limit());
+        } else {
+            bytes = new byte[length];
+            offset = 0;
+            buffer.get(bytes);
+        }
+        return parse(targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING,
+                sm -> sm.execute(bytes, offset, length));
+    }
+
     /**
      * Parses the contents in the given string and returns a json.
      *
@@ -154,11 +202,16 @@ public final class JsonParser {
      */
     public static Object parse(Reader reader, Type targetType, JsonUtils.NonStringValueProcessingMode mode)
             throws BError {
+        return parse(targetType, mode, sm -> sm.execute(reader));
+    }
+
+    private static Object parse(Type targetType, JsonUtils.NonStringValueProcessingMode mode,
+                                Function<JsonStateMachine, Object> input) throws BError {
         JsonStateMachine sm = tlStateMachine.get();
         try {
             sm.addTargetType(targetType);
             JsonStateMachine.mode = mode;
-            return sm.execute(reader);
+            return input.apply(sm);
         } finally {
             // Need to reset the state machine before leaving. Otherwise, references to the created
             // values will be maintained and the java GC will not happen properly.
@@ -190,6 +243,15 @@ public final class JsonParser {
         return parse(reader, targetType, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
     }
 
+    private static boolean isUtf8(String charsetName) {
+        try {
+            return Charset.forName(charsetName) == StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            // Unsupported charsets are reported when creating the reader.
+            return false;
+        }
+    }
+
     private static Type getTargetType(JsonUtils.NonStringValueProcessingMode mode) {
         Type targetType;
         if (mode == FROM_JSON_DECIMAL_STRING) {
@@ -220,6 +282,9 @@ public final class JsonParser {
         List<Type> targetTypes = new ArrayList<>();
         List<Integer> listIndices = new ArrayList<>(); // we keep only the current indices of arrays and tuples
         private int nodesStackSizeWhenUnionStarts = -1; // when we come across a union target type we set this value
+        // names of the fields read so far for each record being built, a generated record reports all of its
+        // required fields as present
+        private final Deque<Set<String>> recordFieldNames = new ArrayDeque<>();
         private static JsonUtils.NonStringValueProcessingMode mode =
                 JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING;
 
@@ -234,6 +299,15 @@ public final class JsonParser {
             this.targetTypes.clear();
             this.nodesStackSizeWhenUnionStarts = -1;
             this.listIndices.clear();
+            this.recordFieldNames.clear();
+        }
+
+        @Override
+        public void processFieldName() {
+            super.processFieldName();
+            if (this.targetTypes.get(this.targetTypes.size() - 1).getTag() == TypeTags.RECORD_TYPE_TAG) {
+                this.recordFieldNames.peek().add(this.fieldNames.getFirst());
+            }
         }
 
         private void addTargetType(Type type) {
@@ -351,8 +425,7 @@ public final class JsonParser {
             Type parentTargetType = this.targetTypes.get(this.targetTypes.size() - 1);
             return switch (parentTargetType.getTag()) {
                 case TypeTags.RECORD_TYPE_TAG, TypeTags.MAP_TAG -> {
-                    ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                            StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                    ((MapValueImpl<BString, Object>) parentNode).putForcefully(popFieldName(), currentJsonNode);
                     this.currentJsonNode = parentNode;
                     yield FIELD_END_STATE;
                 }
@@ -366,8 +439,7 @@ public final class JsonParser {
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (TypeUtils.getImpliedType(TypeChecker.getType(parentNode)).getTag() == TypeTags.MAP_TAG) {
-                        ((MapValueImpl<BString, Object>) parentNode).putForcefully(
-                                StringUtils.fromString(fieldNames.pop()), currentJsonNode);
+                        ((MapValueImpl<BString, Object>) parentNode).putForcefully(popFieldName(), currentJsonNode);
                         this.currentJsonNode = parentNode;
                         yield FIELD_END_STATE;
                     }
@@ -408,12 +480,13 @@ public final class JsonParser {
 
         private void processRecordType(Type targetType) throws ParserException {
             BRecordType recordType = (BRecordType) targetType;
-            BMap<BString, Object> constructedMap = (BMap<BString, Object>) this.currentJsonNode;
+            // fields were written directly to the record value, only the defaults of the missing fields are left
+            BMap<BString, Object> recordValue = (BMap<BString, Object>) this.currentJsonNode;
+            Set<String> providedFields = this.recordFieldNames.pop();
             List<String> notProvidedFields = new ArrayList<>();
             for (Map.Entry<String, Field> stringFieldEntry : recordType.getFields().entrySet()) {
                 String fieldName = stringFieldEntry.getKey();
-                BString bFieldName = StringUtils.fromString(fieldName);
-                if (constructedMap.containsKey(bFieldName)) {
+                if (providedFields.contains(fieldName)) {
                     continue;
                 }
                 long fieldFlags = stringFieldEntry.getValue().getFlags();
@@ -425,15 +498,12 @@ public final class JsonParser {
                     notProvidedFields.add(fieldName);
                 }
             }
-            BMap<BString, Object> recordValue = createRecordValueWithDefaultValues(recordType.getPackage(),
-                    recordType.getName(), notProvidedFields);
-            for (Map.Entry<BString, Object> fieldEntry : constructedMap.entrySet()) {
-                recordValue.populateInitialValue(fieldEntry.getKey(), fieldEntry.getValue());
+            if (!notProvidedFields.isEmpty()) {
+                populateDefaultValues(recordValue, recordType, notProvidedFields);
             }
             if (recordType.isReadOnly()) {
                 recordValue.freezeDirect();
             }
-            this.currentJsonNode = recordValue;
         }
 
         private void processJsonAnydataType() {
@@ -467,8 +537,13 @@ public final class JsonParser {
         private void initializeCurrentJsonNodeForObject(Type targetType) throws ParserException {
             int targetTypeTag = targetType.getTag();
             switch (targetTypeTag) {
-                case TypeTags.MAP_TAG, TypeTags.RECORD_TYPE_TAG ->
-                        this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.MAP_TAG -> this.currentJsonNode = new MapValueImpl<>(targetType);
+                case TypeTags.RECORD_TYPE_TAG -> {
+                    BRecordType recordType = (BRecordType) targetType;
+                    this.currentJsonNode = createRecordValueWithoutDefaultValues(recordType.getPackage(),
+                            recordType.getName());
+                    this.recordFieldNames.push(new HashSet<>());
+                }
                 case TypeTags.UNION_TAG, TypeTags.JSON_TAG, TypeTags.ANYDATA_TAG, TypeTags.TABLE_TAG,
                         TypeTags.FINITE_TYPE_TAG -> {
                     if (targetType.isReadOnly() && (targetTypeTag == TypeTags.JSON_TAG ||
@@ -749,8 +824,7 @@ public final class JsonParser {
                     default:
                         throw new ParserException(UNSUPPORTED_TYPE + targetType + "'");
                 }
-                ((MapValueImpl<BString, Object>) sm.currentJsonNode).putForcefully(
-                        StringUtils.fromString(sm.fieldNames.pop()), bString);
+                ((MapValueImpl<BString, Object>) sm.currentJsonNode).putForcefully(sm.popFieldName(), bString);
             }
 
             private static Type getFieldType(StateMachine sm, BRecordType targetType) {
@@ -951,12 +1025,12 @@ public final class JsonParser {
             if (this.currentJsonNode == null) {
                 throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
             }
-            String fieldName = this.fieldNames.pop();
+            String fieldName = this.fieldNames.getFirst();
             Map<String, Field> fields = referredType.getFields();
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    this.popFieldName(), convertValues(TypeUtils.getImpliedType(fieldType), str));
         }
 
         private void processMapType(String str, MapType referredType) throws ParserException {
@@ -965,7 +1039,7 @@ public final class JsonParser {
             }
             Type constrainedType = TypeUtils.getImpliedType(referredType.getConstrainedType());
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(this.fieldNames.pop()), convertValues(constrainedType, str));
+                    this.popFieldName(), convertValues(constrainedType, str));
         }
 
         private void processTupleType(String str, TupleType referredType) throws ParserException {
@@ -998,7 +1072,21 @@ public final class JsonParser {
             }
             int listIndex = this.listIndices.get(this.listIndices.size() - 1);
             Type elementType = TypeUtils.getImpliedType(referredType.getElementType());
-            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertValues(elementType, str));
+            ArrayValueImpl arrayValue = (ArrayValueImpl) this.currentJsonNode;
+            // values are converted to the element type here, so primitive arrays are written without boxing
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG,
+                        TypeTags.SIGNED8_INT_TAG, TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG,
+                        TypeTags.UNSIGNED8_INT_TAG ->
+                        arrayValue.addIntWithoutTypeCheck(listIndex, convertToInt(elementType, str));
+                case TypeTags.FLOAT_TAG ->
+                        arrayValue.addFloatWithoutTypeCheck(listIndex, convertToFloat(elementType, str));
+                case TypeTags.BOOLEAN_TAG ->
+                        arrayValue.addBooleanWithoutTypeCheck(listIndex, convertToBoolean(elementType, str));
+                case TypeTags.BYTE_TAG ->
+                        arrayValue.addByteWithoutTypeCheck(listIndex, (byte) convertToByte(elementType, str));
+                default -> arrayValue.addRefValue(listIndex, convertValues(elementType, str));
+            }
             this.listIndices.set(this.listIndices.size() - 1, listIndex + 1);
         }
 
@@ -1010,8 +1098,7 @@ public final class JsonParser {
                     arrayValue.addRefValueForcefully(arrayValue.size(), value);
                     break;
                 case FIELD:
-                    ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                            StringUtils.fromString(this.fieldNames.pop()), value);
+                    ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(this.popFieldName(), value);
                     break;
                 default:
                     this.currentJsonNode = value;
@@ -1102,7 +1189,8 @@ public final class JsonParser {
             switch (targetType.getTag()) {
                 case TypeTags.ARRAY_TAG:
                     ArrayType arrayType = (ArrayType) targetType;
-                    ArrayValueImpl newArray = new ArrayValueImpl(targetRefType, arrayType.getSize());
+                    ArrayValueImpl newArray = new ArrayValueImpl(targetRefType, arrayType.getSize(),
+                            array.size());
                     for (int i = 0; i < array.size(); i++) {
                         newArray.addRefValueForcefully(i, convert(array.getRefValue(i), arrayType.getElementType(),
                                 unresolvedValues));
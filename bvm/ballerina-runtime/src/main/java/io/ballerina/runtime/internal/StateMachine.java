@@ -22,10 +22,14 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BmpStringValue;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 
 /**
@@ -73,10 +77,17 @@ public abstract class StateMachine {
     static final State FIELD_NAME_ESC_CHAR_PROCESSING_STATE = new FieldNameEscapedCharacterProcessingState();
     static final State STRING_FIELD_UNICODE_HEX_PROCESSING_STATE = new StringFieldUnicodeHexProcessingState();
     static final State STRING_VALUE_UNICODE_HEX_PROCESSING_STATE = new StringValueUnicodeHexProcessingState();
+    private static final int BYTE_BUFFER_SIZE = 8192;
+    private static final int FIELD_NAME_CACHE_SIZE = 64;
+    private static final int MAX_CACHED_FIELD_NAME_LENGTH = 64;
 
     protected Object currentJsonNode = null;
     protected final Deque<Object> nodesStack = new ArrayDeque<>();
     protected final Deque<String> fieldNames = new ArrayDeque<>();
+    // Field names repeat across the objects of a document, so recently seen names and their ballerina string values
+    // are reused instead of being created for every occurrence.
+    private final String[] cachedFieldNames = new String[FIELD_NAME_CACHE_SIZE];
+    private final BString[] cachedBFieldNames = new BString[FIELD_NAME_CACHE_SIZE];
 
     protected final StringBuilder hexBuilder = new StringBuilder(4);
     protected char[] charBuff = new char[1024];
@@ -105,6 +116,8 @@ public abstract class StateMachine {
         this.column = 0;
         this.nodesStack.clear();
         this.fieldNames.clear();
+        Arrays.fill(this.cachedFieldNames, null);
+        Arrays.fill(this.cachedBFieldNames, null);
     }
 
     public static boolean isWhitespace(char ch) {
@@ -126,24 +139,101 @@ public abstract class StateMachine {
             char[] buff = new char[1024];
             int count;
             while ((count = reader.read(buff)) > 0) {
-                this.index = 0;
-                while (this.index < count) {
-                    currentState = currentState.transition(this, buff, this.index, count);
-                }
+                currentState = transition(currentState, buff, count);
+            }
+            return finish(currentState);
+        } catch (IOException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
+        } catch (ParserException e) {
+            throw getParserError(e);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded input by decoding the bytes straight into the char buffer of the state machine, without
+     * the overhead of a {@link Reader}.
+     *
+     * @param in UTF-8 encoded input stream
+     * @return the parsed value
+     * @throws BError for any parsing error
+     */
+    public Object execute(InputStream in) throws BError {
+        State currentState = DOC_START_STATE;
+        try {
+            byte[] bytes = new byte[BYTE_BUFFER_SIZE];
+            char[] chars = new char[BYTE_BUFFER_SIZE];
+            Utf8Decoder decoder = new Utf8Decoder();
+            int pending = 0;
+            int read;
+            while ((read = in.read(bytes, pending, bytes.length - pending)) > 0) {
+                int end = pending + read;
+                int count = decoder.decode(bytes, 0, end, chars, false);
+                pending = end - decoder.position();
+                // Keep the bytes of an incomplete trailing character for the next read.
+                System.arraycopy(bytes, decoder.position(), bytes, 0, pending);
+                currentState = transition(currentState, chars, count);
             }
-            currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
-            if (currentState != DOC_END_STATE) {
-                throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+            if (pending > 0) {
+                int count = decoder.decode(bytes, 0, pending, chars, true);
+                currentState = transition(currentState, chars, count);
             }
-            return this.currentJsonNode;
+            return finish(currentState);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString("Error reading JSON: " + e.getMessage()));
         } catch (ParserException e) {
-            throw ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line
-                                                                  + " column: " + this.column));
+            throw getParserError(e);
         }
     }
 
+    /**
+     * Parses the given range of UTF-8 encoded bytes.
+     *
+     * @param bytes  UTF-8 encoded input
+     * @param offset index of the first byte of the input
+     * @param length number of bytes in the input
+     * @return the parsed value
+     * @throws BError for any parsing error
+     */
+    public Object execute(byte[] bytes, int offset, int length) throws BError {
+        State currentState = DOC_START_STATE;
+        try {
+            char[] chars = new char[Math.min(length, BYTE_BUFFER_SIZE)];
+            Utf8Decoder decoder = new Utf8Decoder();
+            int from = offset;
+            int end = offset + length;
+            while (from < end) {
+                int to = Math.min(end, from + chars.length);
+                int count = decoder.decode(bytes, from, to, chars, to == end);
+                from = decoder.position();
+                currentState = transition(currentState, chars, count);
+            }
+            return finish(currentState);
+        } catch (ParserException e) {
+            throw getParserError(e);
+        }
+    }
+
+    private State transition(State currentState, char[] buff, int count) throws ParserException {
+        this.index = 0;
+        while (this.index < count) {
+            currentState = currentState.transition(this, buff, this.index, count);
+        }
+        return currentState;
+    }
+
+    private Object finish(State currentState) throws ParserException {
+        currentState = currentState.transition(this, new char[]{EOF}, 0, 1);
+        if (currentState != DOC_END_STATE) {
+            throw ErrorCreator.createError(StringUtils.fromString("invalid JSON document"));
+        }
+        return this.currentJsonNode;
+    }
+
+    private BError getParserError(ParserException e) {
+        return ErrorCreator.createError(StringUtils.fromString(e.getMessage() + " at line: " + this.line
+                                                               + " column: " + this.column));
+    }
+
     public void append(char ch) {
         try {
             this.charBuff[this.charBuffIndex] = ch;
@@ -390,7 +480,60 @@ public abstract class StateMachine {
     }
 
     public void processFieldName() {
-        this.fieldNames.push(this.value());
+        this.fieldNames.push(this.fieldNameValue());
+    }
+
+    private String fieldNameValue() {
+        int length = this.charBuffIndex;
+        if (length > MAX_CACHED_FIELD_NAME_LENGTH) {
+            return value();
+        }
+        // Same as String.hashCode(), so that the name can be looked up again from the string alone.
+        int hash = 0;
+        boolean hasSurrogates = false;
+        for (int i = 0; i < length; i++) {
+            char ch = this.charBuff[i];
+            hash = 31 * hash + ch;
+            hasSurrogates |= Character.isHighSurrogate(ch);
+        }
+        int slot = getFieldNameCacheSlot(hash);
+        String cachedName = this.cachedFieldNames[slot];
+        if (cachedName != null && cachedName.length() == length && contentEquals(cachedName, length)) {
+            this.charBuffIndex = 0;
+            return cachedName;
+        }
+
+        String name = value();
+        this.cachedFieldNames[slot] = name;
+        this.cachedBFieldNames[slot] = hasSurrogates ? StringUtils.fromString(name) : new BmpStringValue(name);
+        return name;
+    }
+
+    private boolean contentEquals(String str, int length) {
+        for (int i = 0; i < length; i++) {
+            if (str.charAt(i) != this.charBuff[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getFieldNameCacheSlot(int hash) {
+        return (hash ^ (hash >>> 16)) & (FIELD_NAME_CACHE_SIZE - 1);
+    }
+
+    /**
+     * Removes the innermost field name and returns it as a ballerina string.
+     *
+     * @return the field name
+     */
+    protected BString popFieldName() {
+        String name = this.fieldNames.pop();
+        int slot = getFieldNameCacheSlot(name.hashCode());
+        if (this.cachedFieldNames[slot] == name) {
+            return this.cachedBFieldNames[slot];
+        }
+        return StringUtils.fromString(name);
     }
 
     /**
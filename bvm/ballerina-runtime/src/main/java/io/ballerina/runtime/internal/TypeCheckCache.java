@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.types.Type;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the results of type to type checks done by {@link TypeChecker}.
+ * <p>
+ * Entries are keyed on the identity of the source and target types and are kept in a fixed size, direct mapped
+ * table, so a new entry simply replaces the one in its slot. Entries are immutable and the table is read and written
+ * without locking; a reader sees either a complete entry or a stale one, which is detected by comparing the types.
+ * Only the results of complete checks are cached, i.e. never the intermediate assumptions made for recursive types.
+ * <p>
+ * Types are mutable while they are being created, e.g. the members of a recursive type are set after the type
+ * itself is created. Every such mutation calls {@link #invalidate()}, which moves the cache to a new version, and an
+ * entry is only valid for the version in which its check started. The types are weakly referenced, so the cache
+ * does not keep types created at runtime alive.
+ *
+ * @since 2201.11.0
+ */
+public final class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 1 << 12;
+    private static final int MASK = CACHE_SIZE - 1;
+
+    private static final Entry[] entries = new Entry[CACHE_SIZE];
+    private static final AtomicLong version = new AtomicLong();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+
+    private TypeCheckCache() {
+    }
+
+    /**
+     * Returns the cached result of checking whether the source type is a subtype of the target type.
+     *
+     * @param sourceType source type
+     * @param targetType target type
+     * @return cached result or null if the result of the pair is not cached
+     */
+    static Boolean get(Type sourceType, Type targetType) {
+        Entry entry = entries[indexOf(sourceType, targetType)];
+        if (entry != null && entry.version == version.get() && entry.get() == sourceType
+                && entry.targetType.get() == targetType) {
+            hits.increment();
+            return entry.result;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the current version of the cache, which has to be read before starting a check to be cached.
+     *
+     * @return current version
+     */
+    static long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Caches the result of a check, unless a type has been mutated since the check started.
+     *
+     * @param sourceType   source type
+     * @param targetType   target type
+     * @param result       result of the check
+     * @param checkVersion version of the cache when the check started
+     */
+    static void put(Type sourceType, Type targetType, boolean result, long checkVersion) {
+        if (checkVersion == version.get()) {
+            entries[indexOf(sourceType, targetType)] = new Entry(sourceType, targetType, result, checkVersion);
+        }
+    }
+
+    /**
+     * Invalidates all the cached results. Called whenever a type is mutated, as the results of the checks done with
+     * the type or any type which contains it may have changed.
+     */
+    public static void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of type checks answered from the cache.
+     *
+     * @return number of cache hits
+     */
+    public static long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of type checks that had to be computed.
+     *
+     * @return number of cache misses
+     */
+    public static long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes all the cached results and resets the counters.
+     */
+    public static void clear() {
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            entries[i] = null;
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    private static int indexOf(Type sourceType, Type targetType) {
+        int hash = System.identityHashCode(sourceType) * 31 + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static final class Entry extends WeakReference<Type> {
+
+        final WeakReference<Type> targetType;
+        final boolean result;
+        final long version;
+
+        Entry(Type sourceType, Type targetType, boolean result, long version) {
+            super(sourceType);
+            this.targetType = new WeakReference<>(targetType);
+            this.result = result;
+            this.version = version;
+        }
+    }
+}
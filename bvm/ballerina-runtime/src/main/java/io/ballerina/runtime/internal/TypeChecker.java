@@ -560,7 +560,21 @@ public final class TypeChecker {
      * @return flag indicating the equivalence of the two types
      */
     public static boolean checkIsType(Type sourceType, Type targetType) {
-        return checkIsType(sourceType, targetType, null);
+        if (sourceType == targetType) {
+            return true;
+        }
+        // Checks between basic types are cheaper than a cache lookup.
+        if (sourceType.getTag() <= TypeTags.NULL_TAG && targetType.getTag() <= TypeTags.NULL_TAG) {
+            return checkIsType(sourceType, targetType, null);
+        }
+        Boolean cachedResult = TypeCheckCache.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        long cacheVersion = TypeCheckCache.getVersion();
+        boolean result = checkIsType(sourceType, targetType, null);
+        TypeCheckCache.put(sourceType, targetType, result, cacheVersion);
+        return result;
     }
 
     @Deprecated
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+/**
+ * Decodes UTF-8 encoded bytes into UTF-16 chars, for parsers that read byte input without going through a
+ * {@link java.io.Reader}. ASCII chars are copied directly. Malformed input is replaced with U+FFFD, as done by
+ * {@link java.io.InputStreamReader} by default.
+ *
+ * @since 2201.11.0
+ */
+final class Utf8Decoder {
+
+    private static final char REPLACEMENT_CHAR = '\uFFFD';
+
+    private int position;
+
+    /**
+     * Decodes the bytes in the given range into the given char array. The char array should be at least as long as
+     * the byte range, since a byte never decodes into more than one char.
+     * <p>
+     * If the input is not complete, a trailing byte sequence that can still become a valid character is left
+     * undecoded, and {@link #position()} tells where it starts.
+     *
+     * @param src        the encoded bytes
+     * @param from       index of the first byte to decode
+     * @param to         index after the last byte to decode
+     * @param dst        array to write the decoded chars to, starting from index 0
+     * @param endOfInput whether there are no more bytes after the given range
+     * @return number of chars written
+     */
+    int decode(byte[] src, int from, int to, char[] dst, boolean endOfInput) {
+        int i = from;
+        int j = 0;
+        while (i < to) {
+            int b = src[i];
+            if (b >= 0) {
+                dst[j++] = (char) b;
+                i++;
+                continue;
+            }
+
+            int lead = b & 0xFF;
+            if (lead < 0xC2 || lead > 0xF4) {
+                dst[j++] = REPLACEMENT_CHAR;
+                i++;
+                continue;
+            }
+            int trailing = lead < 0xE0 ? 1 : (lead < 0xF0 ? 2 : 3);
+            int codePoint = lead & (0x3F >> trailing);
+            int k = 1;
+            for (; k <= trailing && i + k < to; k++) {
+                int c = src[i + k] & 0xFF;
+                if (k == 1 ? c < minSecondByte(lead) || c > maxSecondByte(lead) : (c & 0xC0) != 0x80) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (k <= trailing) {
+                if (i + k == to && !endOfInput) {
+                    // The rest of the sequence is in the input that is yet to come.
+                    break;
+                }
+                // The longest valid prefix of a malformed sequence is replaced by a single replacement char.
+                dst[j++] = REPLACEMENT_CHAR;
+                i += k;
+                continue;
+            }
+
+            i += k;
+            if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+                // An encoded surrogate is replaced as a whole, as done by the JDK decoder.
+                dst[j++] = REPLACEMENT_CHAR;
+            } else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                dst[j++] = Character.highSurrogate(codePoint);
+                dst[j++] = Character.lowSurrogate(codePoint);
+            } else {
+                dst[j++] = (char) codePoint;
+            }
+        }
+        this.position = i;
+        return j;
+    }
+
+    // The byte after the lead byte is restricted further, to reject overlong encodings and code points beyond
+    // U+10FFFF.
+    private static int minSecondByte(int lead) {
+        return switch (lead) {
+            case 0xE0 -> 0xA0;
+            case 0xF0 -> 0x90;
+            default -> 0x80;
+        };
+    }
+
+    private static int maxSecondByte(int lead) {
+        return switch (lead) {
+            case 0xF4 -> 0x8F;
+            default -> 0xBF;
+        };
+    }
+
+    /**
+     * Returns the index of the first byte which was not decoded by the last {@link #decode} call.
+     *
+     * @return index of the first undecoded byte
+     */
+    int position() {
+        return position;
+    }
+}
@@ -68,6 +68,29 @@ public final class ValueUtils {
         return createRecordValue(packageId, recordTypeName, new HashSet<>());
     }
 
+    /**
+     * Create a record value using the given package ID and record type name without populating the default values
+     * of the fields. The caller is expected to populate the default values of the fields it does not provide.
+     *
+     * @param packageId      the package ID where the record type is defined.
+     * @param recordTypeName name of the record type.
+     * @return               value of the record.
+     */
+    public static MapValue<BString, Object> createRecordValueWithoutDefaultValues(Module packageId,
+                                                                                  String recordTypeName) {
+        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(packageId, false));
+        try {
+            return valueCreator.createRecordValue(recordTypeName);
+        } catch (BError e) {
+            // If record type definition not found, get it from test module.
+            String testLookupKey = ValueCreator.getLookupKey(packageId, true);
+            if (ValueCreator.containsValueCreator(testLookupKey)) {
+                return ValueCreator.getValueCreator(testLookupKey).createRecordValue(recordTypeName);
+            }
+            throw e;
+        }
+    }
+
     public static BMap<BString, Object> createRecordValueWithDefaultValues(Module packageId, String recordTypeName,
                                                           List<String> notProvidedFields) {
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(packageId, false));
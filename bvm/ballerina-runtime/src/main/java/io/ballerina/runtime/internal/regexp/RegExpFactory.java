@@ -38,6 +38,11 @@ import io.ballerina.runtime.internal.values.RegExpSequence;
 import io.ballerina.runtime.internal.values.RegExpTerm;
 import io.ballerina.runtime.internal.values.RegExpValue;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 /**
  * Common utility methods used for regular expression manipulation.
  *
@@ -45,9 +50,42 @@ import io.ballerina.runtime.internal.values.RegExpValue;
  */
 public final class RegExpFactory {
 
+    private static final int MAX_CACHED_PATTERNS = 512;
+
+    // Regular expression literals are created each time they are evaluated, hence the compiled patterns are also
+    // cached against the regular expression string to avoid translating and compiling the same pattern repeatedly.
+    // The least recently used pattern is evicted once the cache is full.
+    private static final Map<PatternKey, Pattern> PATTERN_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+                    return size() > MAX_CACHED_PATTERNS;
+                }
+            });
+
     private RegExpFactory() {
     }
 
+    /**
+     * Compiles the given regular expression into a java pattern, or returns the pattern compiled earlier for an
+     * equal regular expression and flags.
+     *
+     * @param regExpValue regular expression
+     * @param flags       match flags of the pattern
+     * @return compiled pattern
+     */
+    public static Pattern compilePattern(RegExpValue regExpValue, int flags) {
+        PatternKey key = new PatternKey(StringUtils.getStringValue(regExpValue), flags);
+        Pattern pattern = PATTERN_CACHE.get(key);
+        if (pattern == null) {
+            // Map the required ballerina regexp constructs to java.
+            RegExpValue translatedRegExpVal = translateRegExpConstructs(regExpValue);
+            pattern = Pattern.compile(StringUtils.getStringValue(translatedRegExpVal), flags);
+            PATTERN_CACHE.put(key, pattern);
+        }
+        return pattern;
+    }
+
     public static RegExpValue createRegExpValue(RegExpDisjunction regExpDisjunction) {
         return new RegExpValue(regExpDisjunction);
     }
@@ -235,4 +273,7 @@ public final class RegExpFactory {
 
         return originalValue;
     }
+
+    private record PatternKey(String regExp, int flags) {
+    }
 }
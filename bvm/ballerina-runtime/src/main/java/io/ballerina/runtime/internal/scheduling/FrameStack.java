@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+
+import java.util.Arrays;
+
+/**
+ * Array backed stack of {@link FunctionFrame}s saved by the functions of a strand when it yields. A frame stack is
+ * owned by a single strand and is only pushed to and popped from by the thread executing that strand, hence it is
+ * not synchronized.
+ * <p>
+ * If frame recycling is enabled via the BALLERINA_FRAME_RECYCLING system variable, popped frames are kept in the
+ * stack so that the generated code can reuse them the next time the same function yields at the same depth. The
+ * generated code clears the local variables of a frame once they are loaded, see {@link FunctionFrame#clearLocals()}.
+ *
+ * @since 2201.11.0
+ */
+public class FrameStack {
+
+    /**
+     * Whether frame recycling is enabled. Checked by the generated code before looking for a frame to reuse.
+     */
+    public static final boolean RECYCLE_FRAMES =
+            Boolean.parseBoolean(System.getenv(RuntimeConstants.BALLERINA_FRAME_RECYCLING_ENV_VAR));
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private FunctionFrame[] frames;
+    private int size;
+
+    public void push(FunctionFrame frame) {
+        if (frames == null) {
+            frames = new FunctionFrame[INITIAL_CAPACITY];
+        } else if (size == frames.length) {
+            frames = Arrays.copyOf(frames, size << 1);
+        }
+        frames[size++] = frame;
+    }
+
+    public FunctionFrame pop() {
+        if (size == 0) {
+            throw new IllegalStateException("no frames to resume in the strand");
+        }
+        FunctionFrame frame = frames[--size];
+        if (!RECYCLE_FRAMES) {
+            frames[size] = null;
+        }
+        return frame;
+    }
+
+    /**
+     * Returns the frame that was last popped from the slot the next frame will be pushed to, so that the generated
+     * code can overwrite and push it again instead of allocating a new frame. The caller has to check whether the
+     * returned frame belongs to its own function.
+     *
+     * @return a previously popped frame, or null if there is none
+     */
+    public FunctionFrame getRecycled() {
+        FunctionFrame[] elements = frames;
+        return elements != null && size < elements.length ? elements[size] : null;
+    }
+
+    /**
+     * Returns the frame at the given position counting from the bottom of the stack. This may be called from threads
+     * other than the one executing the strand, e.g. when dumping strands, in which case null is returned if the frame
+     * got popped concurrently.
+     *
+     * @param index position of the frame from the bottom of the stack
+     * @return the frame at the given position, or null if there is no such frame
+     */
+    public FunctionFrame get(int index) {
+        FunctionFrame[] elements = frames;
+        if (elements == null || index >= size || index >= elements.length) {
+            return null;
+        }
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -30,4 +30,13 @@ public abstract class FunctionFrame {
 
     public String yieldStatus;
 
+    /**
+     * Clears the references held by the frame, so that a frame kept in the {@link FrameStack} for recycling does not
+     * keep the values of its function reachable. Generated frame classes override this to clear their local
+     * variables.
+     */
+    public void clearLocals() {
+        yieldLocation = null;
+        yieldStatus = null;
+    }
 }
@@ -18,13 +18,15 @@
 
 package io.ballerina.runtime.internal.scheduling;
 
-import java.util.Stack;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items are kept in a lock-free stack which can be pushed to from any thread, but is popped only by the thread that
+ * currently executes the group. The head of the stack also carries whether the group is scheduled, so that adding an
+ * item and scheduling the group, as well as finding the group empty and releasing it, happen atomically.
  *
  * @since 0.995.0
  */
@@ -32,46 +34,85 @@ public class ItemGroup {
 
     private static final AtomicInteger nextItemGroupId = new AtomicInteger(0);
 
+    /**
+     * Head of the item stack of a group that is neither in the runnable list nor executing.
+     * A {@code null} head is an empty group that is still scheduled.
+     */
+    private static final Node IDLE = new Node(null);
+
     private final int id;
 
     /**
      * Keep the list of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
-
-    /**
-     * Indicates this item is already in runnable list/executing or not.
-     */
-    AtomicBoolean scheduled = new AtomicBoolean(false);
-
-    private final ReentrantLock groupLock = new ReentrantLock();
+    private final AtomicReference<Node> head;
 
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
+    /**
+     * Creates a group which is already scheduled with the given item.
+     *
+     * @param item initial item of the group
+     */
     public ItemGroup(SchedulerItem item) {
-        this();
-        items.push(item);
+        this.id = nextItemGroupId.incrementAndGet();
+        this.head = new AtomicReference<>(new Node(item));
     }
 
     public ItemGroup() {
         this.id = nextItemGroupId.incrementAndGet();
+        this.head = new AtomicReference<>(IDLE);
     }
 
-    public void add(SchedulerItem item) {
-        items.push(item);
+    /**
+     * Pushes an item to the group.
+     *
+     * @param item item to be added
+     * @return true if the group was idle and has to be added to the runnable list by the caller
+     */
+    public boolean add(SchedulerItem item) {
+        Node node = new Node(item);
+        while (true) {
+            Node current = head.get();
+            boolean idle = current == IDLE;
+            node.next = idle ? null : current;
+            if (head.compareAndSet(current, node)) {
+                return idle;
+            }
+        }
     }
 
+    /**
+     * Pops the most recently added item. Must only be called by the thread executing the group.
+     *
+     * @return the next item, or null if there are no items left
+     */
     public SchedulerItem get() {
-        return items.pop();
+        while (true) {
+            Node current = head.get();
+            if (current == null || current == IDLE) {
+                return null;
+            }
+            if (head.compareAndSet(current, current.next)) {
+                return current.item;
+            }
+        }
     }
 
-    public void lock() {
-        this.groupLock.lock();
+    /**
+     * Marks the group as not scheduled if it has no items left. Must only be called by the thread executing the
+     * group.
+     *
+     * @return true if the group was released, false if items were added concurrently
+     */
+    public boolean release() {
+        return head.compareAndSet(null, IDLE);
     }
 
-    public void unlock() {
-        this.groupLock.unlock();
+    public boolean isEmpty() {
+        Node current = head.get();
+        return current == null || current == IDLE;
     }
 
     public int getId() {
@@ -83,6 +124,16 @@ public class ItemGroup {
     }
 
     public boolean isScheduled() {
-        return scheduled.get();
+        return head.get() != IDLE;
+    }
+
+    private static class Node {
+
+        final SchedulerItem item;
+        Node next;
+
+        Node(SchedulerItem item) {
+            this.item = item;
+        }
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Queue of runnable {@link ItemGroup}s that the scheduler threads pick work from.
+ *
+ * @since 2201.11.0
+ */
+interface RunQueue {
+
+    /**
+     * Adds a group that is ready to be executed.
+     *
+     * @param group item group to be executed
+     */
+    void add(ItemGroup group);
+
+    /**
+     * Retrieves the next group to be executed, waiting if necessary until one becomes available.
+     *
+     * @return next group to be executed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    ItemGroup take() throws InterruptedException;
+
+    /**
+     * Checks whether there are groups waiting to be executed. The result is only a snapshot when other threads are
+     * adding or taking groups concurrently.
+     *
+     * @return true if no group is waiting to be executed
+     */
+    boolean isEmpty();
+
+    /**
+     * Binds the calling thread to the given worker slot. Called once by each scheduler thread before it starts
+     * taking work.
+     *
+     * @param workerId index of the scheduler thread
+     */
+    default void registerWorker(int workerId) {
+    }
+
+    /**
+     * Releases the binding done by {@link #registerWorker(int)} once the calling thread stops taking work.
+     */
+    default void unregisterWorker() {
+    }
+}
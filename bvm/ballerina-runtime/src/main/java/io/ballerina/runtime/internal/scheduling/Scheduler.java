@@ -32,14 +32,17 @@ import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.FutureValue;
 
 import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -64,7 +67,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private final BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> STRAND_HOLDER = ThreadLocal.withInitial(StrandHolder::new);
     private static final ConcurrentHashMap<Integer, Strand> CURRENT_STRANDS = new ConcurrentHashMap<>();
@@ -74,12 +77,33 @@ public class Scheduler {
 
     private static final String POOL_SIZE_CONF = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_MODE system variable to work-stealing or
+     * virtual-threads. Default is a single run queue shared by all the scheduler threads.
+     */
+    private static final String SCHEDULER_MODE_CONF =
+            System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+    private static final String WORK_STEALING_MODE = "work-stealing";
+    private static final String VIRTUAL_THREADS_MODE = "virtual-threads";
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
-     * Default is 100.
+     * Default is 100. The BALLERINA_MAX_POOL_SIZE system variable is ignored in the virtual-threads mode, which uses a
+     * single scheduler thread.
      */
     private final int numThreads;
 
+    /**
+     * Executes each runnable item group on its own virtual thread. Only available in the virtual-threads mode, in
+     * which a single scheduler thread dispatches the groups taken from the runnable list.
+     */
+    private final ExecutorService strandExecutor;
+
+    /**
+     * Time to wait for the item groups that are still running on virtual threads once the scheduler is poisoned.
+     */
+    private static final long STRAND_EXECUTOR_TERMINATION_TIMEOUT_SECONDS = 30;
+
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
     private Semaphore mainBlockSem;
@@ -100,8 +124,18 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
+        this(numThreads, immortal, SCHEDULER_MODE_CONF);
+    }
+
+    Scheduler(int numThreads, boolean immortal, String schedulerMode) {
+        this.strandExecutor = numThreads > 1 ? createStrandExecutor(schedulerMode) : null;
+        if (strandExecutor != null && POOL_SIZE_CONF != null) {
+            ERR.println("ballerina: system variable " + RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR +
+                    " is ignored as strands run on virtual threads");
+        }
+        this.numThreads = strandExecutor != null ? 1 : numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(this.numThreads, schedulerMode);
         this.runtimeRegistry = new RuntimeRegistry(this);
         this.previousStrand = numThreads == 1 ? STRAND_HOLDER.get().strand : null;
         ItemGroup group = new ItemGroup();
@@ -239,7 +273,6 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
         runnableList.add(group);
         return future;
     }
@@ -265,7 +298,6 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
         runnableList.add(group);
         return future;
     }
@@ -273,11 +305,20 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
+            if (strandExecutor != null) {
+                strandExecutor.shutdown();
+                if (!strandExecutor.awaitTermination(STRAND_EXECUTOR_TERMINATION_TIMEOUT_SECONDS,
+                        TimeUnit.SECONDS)) {
+                    ERR.println("ballerina: strands did not complete within " +
+                            STRAND_EXECUTOR_TERMINATION_TIMEOUT_SECONDS + " seconds of the scheduler shutdown");
+                }
+            }
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
         }
@@ -286,11 +327,14 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
+        runnableList.registerWorker(workerId);
         try {
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
+        } finally {
+            runnableList.unregisterWorker();
         }
     }
 
@@ -299,7 +343,6 @@ public class Scheduler {
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -312,38 +355,57 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            if (strandExecutor != null) {
+                strandExecutor.execute(() -> runGroupSafely(group));
+            } else {
+                runGroup(group);
+            }
+        }
+    }
 
-                item = group.get();
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    STRAND_HOLDER.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Executes the items of the given group one after the other until the group runs out of runnable items.
+     */
+    private void runGroup(ItemGroup group) {
+        while (true) {
+            SchedulerItem item = group.get();
+            if (item == null) {
+                // Items may have been added after the last check, in which case the group is still ours to run.
+                if (group.release()) {
+                    break;
+                }
+                continue;
+            }
+            Object result = null;
+            Throwable panic = null;
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    STRAND_HOLDER.get().strand = previousStrand;
+            try {
+                STRAND_HOLDER.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.isEmpty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                STRAND_HOLDER.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -495,16 +557,13 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
-        group.lock();
-        group.add(item);
         // Group maybe not picked by any thread at the moment because,
         //  1) All items are blocked.
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
-        if (group.scheduled.compareAndSet(false, true)) {
+        if (group.add(item)) {
             runnableList.add(group);
         }
-        group.unlock();
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -516,9 +575,7 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
@@ -542,6 +599,33 @@ public class Scheduler {
         return runtimeRegistry;
     }
 
+    private static RunQueue createRunQueue(int numThreads, String schedulerMode) {
+        if (numThreads > 1 && WORK_STEALING_MODE.equalsIgnoreCase(schedulerMode)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        return new SharedRunQueue();
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread per task, if virtual-threads mode is enabled. Virtual
+     * threads are looked up reflectively, as they are not available in the Java version the runtime is compiled for.
+     */
+    private static ExecutorService createStrandExecutor(String schedulerMode) {
+        if (!VIRTUAL_THREADS_MODE.equalsIgnoreCase(schedulerMode)) {
+            return null;
+        }
+        try {
+            MethodHandle factory = MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+            return (ExecutorService) factory.invoke();
+        } catch (Throwable t) {
+            // Log and continue with platform threads
+            ERR.println("ballerina: virtual threads are not supported by the current Java runtime, " +
+                    "ignoring system variable:" + RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+            return null;
+        }
+    }
+
     private static int getPoolSize() {
         try {
             if (POOL_SIZE_CONF != null) {
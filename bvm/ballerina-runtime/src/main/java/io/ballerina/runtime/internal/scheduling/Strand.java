@@ -34,7 +34,6 @@ import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -66,7 +65,7 @@ public class Strand {
     private final String name;
     private final StrandMetadata metadata;
 
-    public Stack<FunctionFrame> frames;
+    public FrameStack frames;
     public int resumeIndex;
     public int functionInvocation;
     public Object returnValue;
@@ -96,6 +95,7 @@ public class Strand {
 
     public Strand() {
         this.id = -1;
+        this.frames = new FrameStack();
         this.strandLock = null;
         this.name = null;
         this.metadata = null;
@@ -105,6 +105,7 @@ public class Strand {
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
         this.id = nextStrandId.incrementAndGet();
+        this.frames = new FrameStack();
         this.scheduler = scheduler;
         this.wdChannels = new WDChannels();
         this.channelDetails = new HashSet<>();
@@ -472,7 +473,7 @@ public class Strand {
     }
 
     private void getInfoFromYieldedState(StringBuilder strandInfo, String closingBracketWithNewLines) {
-        Stack<FunctionFrame> strandFrames = this.frames;
+        FrameStack strandFrames = this.frames;
         if ((strandFrames == null) || (strandFrames.isEmpty())) {
             // this means the strand frames is changed, hence the state is runnable
             strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
@@ -483,22 +484,23 @@ public class Strand {
         String stringPrefix = "\t\tat\t";
         String yieldStatus = "BLOCKED";
         boolean noPickedYieldStatus = true;
-        try {
-            for (FunctionFrame frame : strandFrames) {
-                if (noPickedYieldStatus) {
-                    yieldStatus = frame.yieldStatus;
-                    noPickedYieldStatus = false;
-                }
-                String yieldLocation = frame.yieldLocation;
-                frameStackTrace.append(stringPrefix).append(yieldLocation);
-                frameStackTrace.append("\n");
-                stringPrefix = "\t\t  \t";
+        int frameCount = strandFrames.size();
+        for (int i = 0; i < frameCount; i++) {
+            FunctionFrame frame = strandFrames.get(i);
+            if (frame == null) {
+                // frames got removed while it is being iterated
+                // that means now the strand state is changed from yielded state to runnable state
+                strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
+                return;
             }
-        } catch (ConcurrentModificationException ce) {
-            // this exception can be thrown when frames get added or removed while it is being iterated
-            // that means now the strand state is changed from yielded state to runnable state
-            strandInfo.append(RUNNABLE).append(closingBracketWithNewLines);
-            return;
+            if (noPickedYieldStatus) {
+                yieldStatus = frame.yieldStatus;
+                noPickedYieldStatus = false;
+            }
+            String yieldLocation = frame.yieldLocation;
+            frameStackTrace.append(stringPrefix).append(yieldLocation);
+            frameStackTrace.append("\n");
+            stringPrefix = "\t\t  \t";
         }
         if (!this.isYielded() || noPickedYieldStatus) {
             // if frames have got empty, noPickedYieldStatus is true, then the state has changed to runnable
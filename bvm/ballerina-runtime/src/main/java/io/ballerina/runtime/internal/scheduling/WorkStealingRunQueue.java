@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Run queue that keeps a separate deque per scheduler thread. Groups made runnable by a scheduler thread are pushed
+ * to the head of its own deque and picked from there by the same thread, while idle threads steal from the tail of
+ * the other deques. Groups submitted from non-scheduler threads go through a shared injection queue.
+ * <p>
+ * An {@link ItemGroup} is present in at most one deque at a time, as guarded by {@link ItemGroup#add}, hence
+ * stealing does not break the serial execution of the items in a group.
+ *
+ * @since 2201.11.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final Worker[] workers;
+    private final ConcurrentLinkedQueue<ItemGroup> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    /**
+     * Number of threads that found all the queues empty and are about to park or already parked.
+     */
+    private final AtomicInteger idleWorkers = new AtomicInteger();
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    WorkStealingRunQueue(int numThreads) {
+        this.workers = new Worker[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workers[i] = new Worker(i);
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        currentWorker.set(workers[workerId]);
+    }
+
+    @Override
+    public void unregisterWorker() {
+        currentWorker.remove();
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            worker.deque.addFirst(group);
+        } else {
+            injectionQueue.add(group);
+        }
+        // Idle threads re-check the queues after announcing themselves, so a permit is needed only when there are
+        // more idle threads than pending wake-ups.
+        if (idleWorkers.get() > wakeUp.availablePermits()) {
+            wakeUp.release();
+        }
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker worker = currentWorker.get();
+        while (true) {
+            ItemGroup group = poll(worker);
+            if (group != null) {
+                return group;
+            }
+            idleWorkers.incrementAndGet();
+            try {
+                group = poll(worker);
+                if (group != null) {
+                    return group;
+                }
+                wakeUp.acquire();
+            } finally {
+                idleWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        if (!injectionQueue.isEmpty()) {
+            return false;
+        }
+        for (Worker worker : workers) {
+            if (!worker.deque.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ItemGroup poll(Worker worker) {
+        ItemGroup group;
+        int start = 0;
+        if (worker != null) {
+            group = worker.deque.pollFirst();
+            if (group != null) {
+                return group;
+            }
+            start = worker.id + 1;
+        }
+        group = injectionQueue.poll();
+        if (group != null) {
+            return group;
+        }
+        return steal(start);
+    }
+
+    private ItemGroup steal(int start) {
+        int numWorkers = workers.length;
+        for (int i = 0; i < numWorkers; i++) {
+            ItemGroup group = workers[(start + i) % numWorkers].deque.pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static class Worker {
+
+        final int id;
+        final ConcurrentLinkedDeque<ItemGroup> deque = new ConcurrentLinkedDeque<>();
+
+        Worker(int id) {
+            this.id = id;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.types.ErrorType;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ErrorValue;
 
 import java.util.Optional;
@@ -50,6 +51,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeCheckCache.invalidate();
     }
 
     @Override
@@ -68,7 +70,11 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
-        this.detailType = detailType;
+        // Errors created from the same error type usually set the same detail type.
+        if (this.detailType != detailType) {
+            this.detailType = detailType;
+            TypeCheckCache.invalidate();
+        }
     }
 
     @Override
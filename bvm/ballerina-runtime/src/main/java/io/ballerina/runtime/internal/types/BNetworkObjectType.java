@@ -22,6 +22,7 @@ import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.NetworkObjectType;
 import io.ballerina.runtime.api.types.RemoteMethodType;
 import io.ballerina.runtime.api.types.ResourceMethodType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.ArrayList;
 
@@ -41,6 +42,7 @@ public class BNetworkObjectType extends BObjectType implements NetworkObjectType
 
     public void setResourceMethods(ResourceMethodType[] resourceMethods) {
         this.resourceMethods = resourceMethods;
+        TypeCheckCache.invalidate();
     }
 
     /**
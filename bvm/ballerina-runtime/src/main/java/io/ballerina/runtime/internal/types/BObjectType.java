@@ -31,6 +31,7 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeIdSet;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.ValueUtils;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
@@ -148,10 +149,12 @@ public class BObjectType extends BStructureType implements ObjectType {
     @Override
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        TypeCheckCache.invalidate();
     }
 
     public void setInitMethod(MethodType initMethod) {
         this.initMethod = initMethod;
+        TypeCheckCache.invalidate();
     }
 
     public void setGeneratedInitMethod(BMethodType generatedInitMethod) {
@@ -215,6 +218,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        TypeCheckCache.invalidate();
     }
 
     public BObjectType duplicate() {
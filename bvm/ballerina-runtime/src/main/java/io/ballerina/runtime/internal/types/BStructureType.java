@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal.types;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.internal.TypeCheckCache;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -72,6 +73,7 @@ public abstract class BStructureType extends BAnnotatableType implements Structu
     @Override
     public void setFields(Map<String, Field> fields) {
         this.fields = fields;
+        TypeCheckCache.invalidate();
     }
 
     @Override
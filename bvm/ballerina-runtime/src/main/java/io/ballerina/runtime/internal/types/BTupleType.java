@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.flags.TypeFlags;
 import io.ballerina.runtime.api.types.IntersectionType;
 import io.ballerina.runtime.api.types.TupleType;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
 import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
@@ -167,6 +168,7 @@ public class BTupleType extends BAnnotatableType implements TupleType {
             this.restType = restType;
         }
         checkAllMembers();
+        TypeCheckCache.invalidate();
     }
 
     @Override
@@ -61,9 +61,15 @@ public abstract class AbstractArrayValue implements ArrayValue {
      * This is same as Java
      */
     protected int maxSize = SYSTEM_ARRAY_MAX;
-    protected static final int DEFAULT_ARRAY_SIZE = 100;
+    /**
+     * The minimum number of slots allocated when an open array grows. Open arrays are created with just enough
+     * slots for their known initial members and only grow when more members are added.
+     */
+    protected static final int MIN_ARRAY_GROWTH_SIZE = 4;
     protected int size = 0;
     protected Type iteratorNextReturnType;
+    // Set by the clone that is copying this array, see CloneRefs.
+    volatile Object cloneMark;
 
     /**
      * Append value to the existing array.
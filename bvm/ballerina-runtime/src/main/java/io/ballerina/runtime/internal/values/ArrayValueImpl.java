@@ -139,8 +139,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
         this(type, type.getSize());
     }
 
-    private void initArrayValues() {
-        int initialArraySize = (arrayType.getSize() != -1) ? arrayType.getSize() : DEFAULT_ARRAY_SIZE;
+    private void initArrayValues(int initialCapacity) {
+        int initialArraySize = (arrayType.getSize() != -1) ? arrayType.getSize() : initialCapacity;
         switch (elementReferredType.getTag()) {
             case TypeTags.INT_TAG:
             case TypeTags.SIGNED32_INT_TAG:
@@ -245,18 +245,32 @@ public class ArrayValueImpl extends AbstractArrayValue {
     }
 
     public ArrayValueImpl(ArrayType type, long size) {
-        this.type = this.arrayType = type;
-        this.elementType = type.getElementType();
-        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
-        initArrayValues();
-        if (size != -1) {
-            this.size = this.maxSize = (int) size;
-        }
+        this(type, size, 0);
     }
 
     public ArrayValueImpl(Type type, long size) {
-        this((ArrayType) TypeUtils.getImpliedType(type), size);
+        this(type, size, 0);
+    }
+
+    /**
+     * Creates an array with room for the given number of members, for when the number of members to be added is
+     * known upfront, e.g. when converting a list value.
+     *
+     * @param type            type of the array
+     * @param size            size of the array, or -1 if the size is not fixed
+     * @param initialCapacity number of members to allocate room for
+     */
+    public ArrayValueImpl(Type type, long size, int initialCapacity) {
         this.type = type;
+        this.arrayType = (ArrayType) TypeUtils.getImpliedType(type);
+        this.elementType = arrayType.getElementType();
+        this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
+        if (size != -1) {
+            initArrayValues(Math.max((int) size, initialCapacity));
+            this.size = this.maxSize = (int) size;
+        } else {
+            initArrayValues(initialCapacity);
+        }
     }
 
     // Used when the array value is created from a type reference type
@@ -282,9 +296,19 @@ public class ArrayValueImpl extends AbstractArrayValue {
         this.elementType = arrayType.getElementType();
         this.elementReferredType = TypeUtils.getImpliedType(this.elementType);
         this.elementTypedescValue = typedescValue;
-        initArrayValues();
+        int valueCount = 0;
+        for (BListInitialValueEntry listEntry : initialValues) {
+            if (listEntry instanceof ListInitialValueEntry.ExpressionEntry) {
+                valueCount++;
+            } else {
+                valueCount += ((ListInitialValueEntry.SpreadEntry) listEntry).values.size();
+            }
+        }
         if (size != -1) {
+            initArrayValues(Math.max((int) size, valueCount));
             this.size = this.maxSize = (int) size;
+        } else {
+            initArrayValues(valueCount);
         }
 
         int index = 0;
@@ -668,6 +692,50 @@ public class ArrayValueImpl extends AbstractArrayValue {
         byteValues[(int) index] = (byte) ((Long) value).intValue();
     }
 
+    /**
+     * Add an int value which is already known to belong to the element type, to the given array index.
+     *
+     * @param index array index
+     * @param value value to be added
+     */
+    public void addIntWithoutTypeCheck(long index, long value) {
+        prepareForAddWithoutTypeCheck(index, intValues.length);
+        intValues[(int) index] = value;
+    }
+
+    /**
+     * Add a float value which is already known to belong to the element type, to the given array index.
+     *
+     * @param index array index
+     * @param value value to be added
+     */
+    public void addFloatWithoutTypeCheck(long index, double value) {
+        prepareForAddWithoutTypeCheck(index, floatValues.length);
+        floatValues[(int) index] = value;
+    }
+
+    /**
+     * Add a boolean value which is already known to belong to the element type, to the given array index.
+     *
+     * @param index array index
+     * @param value value to be added
+     */
+    public void addBooleanWithoutTypeCheck(long index, boolean value) {
+        prepareForAddWithoutTypeCheck(index, booleanValues.length);
+        booleanValues[(int) index] = value;
+    }
+
+    /**
+     * Add a byte value which is already known to belong to the element type, to the given array index.
+     *
+     * @param index array index
+     * @param value value to be added
+     */
+    public void addByteWithoutTypeCheck(long index, byte value) {
+        prepareForAddWithoutTypeCheck(index, byteValues.length);
+        byteValues[(int) index] = value;
+    }
+
     private void addBoolean(long index, boolean value) {
         prepareForAdd(index, value, PredefinedTypes.TYPE_BOOLEAN, booleanValues.length);
         booleanValues[(int) index] = value;
@@ -873,8 +941,9 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         ArrayValue valueArray;
@@ -904,6 +973,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
+                // Register the copy before copying the members, so that cyclic references resolve to it.
+                refs.put(this, valueArray);
                 IntStream.range(0, this.size).forEach(i -> {
                     Object value = this.refValues[i];
                     if (value instanceof BRefValue refValue) {
@@ -912,7 +983,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
                         values[i] = value;
                     }
                 });
-                break;
+                return valueArray;
         }
 
         refs.put(this, valueArray);
@@ -1223,7 +1294,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
 
         // Here the growth rate is 1.5. This value has been used by many other languages
-        int newArraySize = currentArraySize + (currentArraySize >> 1);
+        int newArraySize = Math.max(currentArraySize + (currentArraySize >> 1), MIN_ARRAY_GROWTH_SIZE);
 
         // Now get the maximum value of the calculate new array size and request capacity
         newArraySize = Math.max(newArraySize, requestedCapacity);
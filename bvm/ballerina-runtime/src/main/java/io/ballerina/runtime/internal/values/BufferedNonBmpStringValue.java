@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+/**
+ * A {@link NonBmpStringValue} created by concatenation, which represents a prefix of a {@link StringConcatBuffer}.
+ * <p>
+ * The content is copied out of the buffer the first time it is read. The buffer is kept afterwards, so that a
+ * value which is read and then appended to, e.g. in a loop, still appends in place.
+ *
+ * @since 2201.11.0
+ */
+final class BufferedNonBmpStringValue extends NonBmpStringValue {
+
+    private final StringConcatBuffer buffer;
+    private final int length;
+    private volatile String flattened;
+
+    BufferedNonBmpStringValue(StringConcatBuffer buffer, int length, int[] surrogatePairLocations,
+                              int surrogateCount) {
+        super(null, surrogatePairLocations, surrogateCount);
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    @Override
+    public String getValue() {
+        String str = flattened;
+        if (str == null) {
+            // Racing threads may flatten at the same time, which is harmless as both get equal strings.
+            str = buffer.substring(length);
+            flattened = str;
+        }
+        return str;
+    }
+
+    @Override
+    int charLength() {
+        return length;
+    }
+
+    @Override
+    StringValue appendInPlace(String str, int[] strSurrogates, int strSurrogateCount) {
+        return buffer.append(length, str, strSurrogates, strSurrogateCount);
+    }
+
+    @Override
+    boolean isFlattened() {
+        return flattened != null;
+    }
+
+    @Override
+    StringConcatBuffer newConcatBuffer(int capacity) {
+        return buffer.copyPrefix(length, surrogateCount, capacity);
+    }
+}
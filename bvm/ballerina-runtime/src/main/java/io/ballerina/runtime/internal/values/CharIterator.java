@@ -46,8 +46,10 @@ public class CharIterator implements IteratorValue<String> {
     }
 
     private String getNonBmpCharWithSurrogates(long currentIndex) {
+        NonBmpStringValue nonBmpValue = (NonBmpStringValue) value;
         int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
+        for (int i = 0; i < nonBmpValue.surrogateCount; i++) {
+            int surrogate = nonBmpValue.surrogates[i];
             if (surrogate < currentIndex) {
                 offset++;
             } else if (surrogate > currentIndex) {
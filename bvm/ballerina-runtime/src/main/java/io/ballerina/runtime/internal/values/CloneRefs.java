@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Visited values of a single clone, passed as the refs map to {@code copy} and {@code frozenCopy}.
+ * <p>
+ * Maps and arrays are not recorded in a hash map. Instead, the clone sets a mark on the container the first time it
+ * is copied. Other values, and containers currently marked by another clone that is still running, are recorded in
+ * an identity map that is only created when needed. A container that is reached a second time (a cycle or a shared
+ * member) has no recorded copy, so the clone fails with {@link Revisited} and has to be repeated with a plain
+ * identity map.
+ *
+ * @since 2201.11.0
+ */
+public final class CloneRefs extends AbstractMap<Object, Object> {
+
+    private static final AtomicReferenceFieldUpdater<MapValueImpl, Object> MAP_MARK =
+            AtomicReferenceFieldUpdater.newUpdater(MapValueImpl.class, Object.class, "cloneMark");
+    private static final AtomicReferenceFieldUpdater<AbstractArrayValue, Object> ARRAY_MARK =
+            AtomicReferenceFieldUpdater.newUpdater(AbstractArrayValue.class, Object.class, "cloneMark");
+
+    private static final Revisited REVISITED = new Revisited();
+
+    private volatile boolean active = true;
+    private Map<Object, Object> visited;
+
+    @Override
+    public Object get(Object key) {
+        if (getMark(key) == this) {
+            throw REVISITED;
+        }
+        return visited == null ? null : visited.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getMark(key) == this || (visited != null && visited.containsKey(key));
+    }
+
+    @Override
+    public Object put(Object key, Object value) {
+        if (mark(key)) {
+            return null;
+        }
+        if (visited == null) {
+            visited = new IdentityHashMap<>();
+        }
+        return visited.put(key, value);
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return visited == null ? Collections.emptySet() : visited.entrySet();
+    }
+
+    /**
+     * Ends the clone. Marks left by it on the copied containers become stale and can be replaced by later clones.
+     */
+    public void release() {
+        visited = null;
+        active = false;
+    }
+
+    private static Object getMark(Object key) {
+        if (key instanceof MapValueImpl<?, ?> mapValue) {
+            return mapValue.cloneMark;
+        }
+        if (key instanceof AbstractArrayValue arrayValue) {
+            return arrayValue.cloneMark;
+        }
+        return null;
+    }
+
+    private boolean mark(Object key) {
+        Object mark = getMark(key);
+        if (mark instanceof CloneRefs other && other.active) {
+            return false;
+        }
+        if (key instanceof MapValueImpl<?, ?> mapValue) {
+            return MAP_MARK.compareAndSet(mapValue, mark, this);
+        }
+        if (key instanceof AbstractArrayValue arrayValue) {
+            return ARRAY_MARK.compareAndSet(arrayValue, mark, this);
+        }
+        return false;
+    }
+
+    /**
+     * Thrown when a marked container is reached again during the same clone.
+     */
+    public static final class Revisited extends RuntimeException {
+
+        private Revisited() {
+            super(null, null, false, false);
+        }
+    }
+}
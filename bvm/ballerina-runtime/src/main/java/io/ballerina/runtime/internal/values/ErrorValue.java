@@ -21,6 +21,7 @@ import io.ballerina.identifier.Utils;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
 import io.ballerina.runtime.api.constants.TypeConstants;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeId;
@@ -38,7 +39,9 @@ import io.ballerina.runtime.internal.types.BTypeIdSet;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +85,9 @@ public class ErrorValue extends BError implements RefValue {
     private static final String START_FUNCTION_SUFFIX = ".<start>";
     private static final String STOP_FUNCTION_SUFFIX = ".<stop>";
 
+    // Maximum number of Ballerina frames captured for an error. A negative value captures the complete stack trace.
+    private static volatile int stackTraceDepth = readStackTraceDepth();
+
     public ErrorValue(BString message) {
         this(new BErrorType(TypeConstants.ERROR, PredefinedTypes.TYPE_ERROR.getPackage(), TYPE_MAP),
              message, null,  new MapValueImpl<>(PredefinedTypes.TYPE_ERROR_DETAIL));
@@ -98,6 +104,7 @@ public class ErrorValue extends BError implements RefValue {
         this.message = message;
         this.cause = cause;
         this.details = details;
+        captureStackTrace();
     }
 
     public ErrorValue(Type type, BString message, BError cause, Object details,
@@ -107,6 +114,7 @@ public class ErrorValue extends BError implements RefValue {
         this.message = message;
         this.cause = cause;
         this.details = details;
+        captureStackTrace();
         BTypeIdSet typeIdSet = new BTypeIdSet();
         typeIdSet.add(typeIdPkg, typeIdName, true);
         ((BErrorType) TypeUtils.getImpliedType(type)).setTypeIdSet(typeIdSet);
@@ -262,7 +270,7 @@ public class ErrorValue extends BError implements RefValue {
     @Override
     public Object getDetails() {
         if (details instanceof BRefValue bRefValue) {
-            return bRefValue.frozenCopy(new HashMap<>());
+            return bRefValue.frozenCopy(new IdentityHashMap<>());
         }
         return details;
     }
@@ -286,6 +294,68 @@ public class ErrorValue extends BError implements RefValue {
         outStream.println(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (getStackTraceDepth() < 0) {
+            return super.fillInStackTrace();
+        }
+        // The stack trace is captured up to the configured depth once the error value is constructed.
+        return this;
+    }
+
+    private void captureStackTrace() {
+        int depth = getStackTraceDepth();
+        if (depth <= 0) {
+            return;
+        }
+        StackTraceElement[] stackTrace = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+                .walk(frames -> {
+                    // Skip the frames of the error value construction, same as Throwable#fillInStackTrace.
+                    Iterator<StackWalker.StackFrame> iterator = frames.dropWhile(this::isErrorConstructionFrame)
+                            .iterator();
+                    List<StackTraceElement> capturedFrames = new ArrayList<>();
+                    int ballerinaFrameCount = 0;
+                    while (ballerinaFrameCount < depth && iterator.hasNext()) {
+                        StackTraceElement stackFrame = iterator.next().toStackTraceElement();
+                        if (filterStackTraceElement(stackFrame, capturedFrames.size()).isPresent()) {
+                            ballerinaFrameCount++;
+                        }
+                        capturedFrames.add(stackFrame);
+                    }
+                    return capturedFrames.toArray(new StackTraceElement[0]);
+                });
+        setStackTrace(stackTrace);
+    }
+
+    private boolean isErrorConstructionFrame(StackWalker.StackFrame frame) {
+        String methodName = frame.getMethodName();
+        return (methodName.equals("<init>") || methodName.equals("captureStackTrace")) &&
+                Throwable.class.isAssignableFrom(frame.getDeclaringClass());
+    }
+
+    static int getStackTraceDepth() {
+        return stackTraceDepth;
+    }
+
+    static void setStackTraceDepth(int depth) {
+        stackTraceDepth = depth;
+    }
+
+    private static int readStackTraceDepth() {
+        String depth = System.getProperty(RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_PROPERTY);
+        if (depth == null) {
+            depth = System.getenv(RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_ENV_VAR);
+        }
+        if (depth == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(depth.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
         StackTraceElement[] stackTrace = super.getStackTrace();
@@ -55,7 +55,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -92,14 +91,16 @@ import static io.ballerina.runtime.internal.values.ReadOnlyUtils.handleInvalidUp
  *
  * @since 0.995.0
  */
-public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
+public class MapValueImpl<K, V> extends OrderedHashMap<K, V> implements RefValue, CollectionValue, MapValue<K, V>,
         BMap<K, V> {
 
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
+    // Set by the clone that is copying this map, see CloneRefs.
+    volatile Object cloneMark;
 
     public MapValueImpl(TypedescValue typedesc) {
         this(typedesc.getDescribingType());
@@ -115,7 +116,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public MapValueImpl(Type type, BMapInitialValueEntry[] initialValues) {
-        super();
+        super(initialValues.length);
         this.type = type;
         this.referredType = getImpliedType(type);
         populateInitialValues(initialValues);
@@ -499,8 +500,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
@@ -655,6 +657,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         nativeData.put(key, data);
     }
 
@@ -665,7 +670,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -682,6 +687,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (nativeData == null) {
+            nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
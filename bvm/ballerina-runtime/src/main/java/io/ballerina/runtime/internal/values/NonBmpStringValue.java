@@ -29,103 +29,113 @@ import java.util.Arrays;
  */
 public class NonBmpStringValue extends StringValue {
 
-    private final int[] surrogates;
+    // May be shared with other values created from the same concat buffer, only the first surrogateCount entries
+    // belong to this value
+    final int[] surrogates;
+    final int surrogateCount;
 
     public NonBmpStringValue(String value, int[] surrogatePairLocations) {
+        this(value, surrogatePairLocations, surrogatePairLocations.length);
+    }
+
+    NonBmpStringValue(String value, int[] surrogatePairLocations, int surrogateCount) {
         super(value, true);
-        surrogates = surrogatePairLocations;
+        this.surrogates = surrogatePairLocations;
+        this.surrogateCount = surrogateCount;
     }
 
    @Override
    public int getCodePoint(int index) {
-       if ((index < 0) || (index >= value.length() - surrogates.length)) {
+       if ((index < 0) || (index >= length())) {
            throw new StringIndexOutOfBoundsException(index);
        }
 
-       int offset = index;
-       for (int surrogate : surrogates) {
-           if (surrogate < index) {
-               offset++;
-           } else if (surrogate > index) {
-               break;
-           } else {
-               return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-           }
+       String value = getValue();
+       int offset = getCharOffset(index);
+       char c = value.charAt(offset);
+       if (Character.isHighSurrogate(c)) {
+           return Character.toCodePoint(c, value.charAt(offset + 1));
        }
-       return value.charAt(offset);
+       return c;
    }
 
    @Override
    public int length() {
-       return value.length() - surrogates.length;
-   }
-
-   @Override
-   public BString concat(BString str) {
-       StringValue stringValue = (StringValue) str;
-       if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
-           int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-           int length = length();
-           for (int i = 0; i < other.surrogates.length; i++) {
-               both[i + surrogates.length] = other.surrogates[i] + length;
-           }
-           return new NonBmpStringValue(this.value + other.value, both);
-       }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       return charLength() - surrogateCount;
    }
 
     public int[] getSurrogates() {
-        return surrogates.clone();
+        return Arrays.copyOf(surrogates, surrogateCount);
+    }
+
+    /**
+     * Returns the UTF-16 char offset of the given code point index of this string.
+     *
+     * @param codePointIndex code point index
+     * @return char offset of the code point
+     */
+    public int getCharOffset(int codePointIndex) {
+        // Surrogate locations are sorted code point indices, hence the number of surrogate pairs before the index
+        // can be found with a binary search.
+        int low = 0;
+        int high = surrogateCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (surrogates[mid] < codePointIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return codePointIndex + low;
+    }
+
+    /**
+     * Returns the code point index of the given UTF-16 char offset of this string.
+     *
+     * @param charOffset char offset
+     * @return code point index of the char offset
+     */
+    public int getCodePointIndex(int charOffset) {
+        // The i-th surrogate pair starts at the char offset surrogates[i] + i, which is strictly increasing.
+        int low = 0;
+        int high = surrogateCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (surrogates[mid] + mid < charOffset) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return charOffset - low;
     }
 
     @Override
     public Long indexOf(BString str, int fromIndex) {
-        int offset = getOffset(fromIndex);
-        long index = value.indexOf(str.getValue(), offset);
+        String value = getValue();
+        int offset = getCharOffset(fromIndex);
+        int index = value.indexOf(str.getValue(), offset);
         if (index < 0) {
             return null;
         }
-        for (int i = 0; i < index; i++) {
-            char c = value.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                index--;
-            }
-        }
-        return index;
+        return (long) getCodePointIndex(index);
     }
 
     @Override
     public Long lastIndexOf(BString str, int fromIndex) {
-        int offset = getOffset(fromIndex);
-        long index = value.lastIndexOf(str.getValue(), offset);
+        String value = getValue();
+        int offset = getCharOffset(fromIndex);
+        int index = value.lastIndexOf(str.getValue(), offset);
         if (index < 0) {
             return null;
         }
-        for (int i = 0; i < index; i++) {
-            char c = value.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                index--;
-            }
-        }
-        return index;
+        return (long) getCodePointIndex(index);
     }
     @Override
     public BString substring(int beginIndex, int endIndex) {
-        int beginOffset = getOffset(beginIndex);
-        int endOffset = getOffset(endIndex);
-        return StringUtils.fromString(value.substring(beginOffset, endOffset));
-    }
-
-    private int getOffset(int fromIndex) {
-        int offset = fromIndex;
-        for (int surrogate : surrogates) {
-            if (surrogate < fromIndex) {
-                offset++;
-            } else {
-                break;
-            }
-        }
-        return offset;
+        int beginOffset = getCharOffset(beginIndex);
+        int endOffset = getCharOffset(endIndex);
+        return StringUtils.fromString(getValue().substring(beginOffset, endOffset));
     }
 }
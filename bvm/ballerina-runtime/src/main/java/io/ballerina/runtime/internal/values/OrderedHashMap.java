@@ -0,0 +1,559 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Insertion ordered hash map which keeps its mappings in parallel key, value and hash arrays and locates them using
+ * an open addressing index, instead of allocating an entry object per mapping as {@link java.util.LinkedHashMap}
+ * does. Maps with only a few mappings are searched linearly and do not allocate an index at all, and no storage is
+ * allocated until the first mapping is added.
+ * </p>
+ * <p>
+ * Removed mappings leave gaps in the arrays, which are compacted when the arrays fill up. Similar to
+ * {@link java.util.HashMap}, the map operations do not depend on the overridable public methods of the map, so that
+ * subclasses such as generated record values can keep some of the mappings elsewhere.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 2201.11.0
+ */
+public class OrderedHashMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int MAX_LINEAR_SCAN_LENGTH = 8;
+    private static final Object REMOVED = new Object();
+    private static final Object[] EMPTY_ENTRIES = {};
+    private static final int[] EMPTY_HASHES = {};
+
+    private Object[] keys = EMPTY_ENTRIES;
+    private Object[] values = EMPTY_ENTRIES;
+    private int[] hashes = EMPTY_HASHES;
+    // Slots hold the entry position + 1, or 0 if empty. Always at least twice as long as the entry arrays.
+    private int[] index;
+    // Number of entry positions in use, including removed entries
+    private int used;
+    private int size;
+    private int modCount;
+    private final int initialCapacity;
+
+    private Set<Map.Entry<K, V>> entrySetView;
+    private Set<K> keySetView;
+    private Collection<V> valuesView;
+
+    public OrderedHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OrderedHashMap(int initialCapacity) {
+        this.initialCapacity = Math.max(initialCapacity, 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int pos = find(key, hash(key));
+        return pos < 0 ? null : elementAt(pos);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int pos = find(key, hash(key));
+        return pos < 0 ? defaultValue : elementAt(pos);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return find(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return putEntry(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            putEntry(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        int pos = find(key, hash(key));
+        return pos < 0 ? null : removeAt(pos);
+    }
+
+    @Override
+    public void clear() {
+        removeAll();
+    }
+
+    private void removeAll() {
+        modCount++;
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        if (index != null) {
+            Arrays.fill(index, 0);
+        }
+        used = 0;
+        size = 0;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                action.accept(keyAt(i), elementAt(i));
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        Set<Map.Entry<K, V>> view = entrySetView;
+        if (view == null) {
+            view = entrySetView = new EntrySet();
+        }
+        return view;
+    }
+
+    @Override
+    public Set<K> keySet() {
+        Set<K> view = keySetView;
+        if (view == null) {
+            view = keySetView = new KeySet();
+        }
+        return view;
+    }
+
+    @Override
+    public Collection<V> values() {
+        Collection<V> view = valuesView;
+        if (view == null) {
+            view = valuesView = new Values();
+        }
+        return view;
+    }
+
+    private static int hash(Object key) {
+        int h;
+        return key == null ? 0 : (h = key.hashCode()) ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int pos) {
+        return (K) keys[pos];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V elementAt(int pos) {
+        return (V) values[pos];
+    }
+
+    private boolean matches(int pos, Object key, int hash) {
+        if (hashes[pos] != hash) {
+            return false;
+        }
+        Object k = keys[pos];
+        return k == key || (k != REMOVED && key != null && key.equals(k));
+    }
+
+    private int find(Object key, int hash) {
+        int[] table = index;
+        if (table == null) {
+            for (int i = 0; i < used; i++) {
+                if (matches(i, key, hash)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int pos = table[slot] - 1;
+            if (pos < 0) {
+                return -1;
+            }
+            if (matches(pos, key, hash)) {
+                return pos;
+            }
+        }
+    }
+
+    private V putEntry(K key, V value) {
+        int hash = hash(key);
+        int pos = find(key, hash);
+        if (pos >= 0) {
+            V oldValue = elementAt(pos);
+            values[pos] = value;
+            return oldValue;
+        }
+
+        if (used == keys.length) {
+            makeRoom();
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        size++;
+        modCount++;
+        if (index != null) {
+            addToIndex(pos, hash);
+        } else if (used > MAX_LINEAR_SCAN_LENGTH) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    private V removeAt(int pos) {
+        V oldValue = elementAt(pos);
+        // The index slot of the entry is kept, so that probing continues past it.
+        keys[pos] = REMOVED;
+        values[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            removeAll();
+        }
+        return oldValue;
+    }
+
+    private void makeRoom() {
+        int length = keys.length;
+        if (length == 0) {
+            keys = new Object[initialCapacity];
+            values = new Object[initialCapacity];
+            hashes = new int[initialCapacity];
+            return;
+        }
+
+        int removed = used - size;
+        if (removed > 0 && removed >= length >> 2) {
+            // At least a quarter of the entries have been removed, compacting is enough.
+            compact();
+        } else {
+            int newLength = length + Math.max(length, DEFAULT_CAPACITY);
+            keys = Arrays.copyOf(keys, newLength);
+            values = Arrays.copyOf(values, newLength);
+            hashes = Arrays.copyOf(hashes, newLength);
+        }
+        if (used > MAX_LINEAR_SCAN_LENGTH) {
+            rebuildIndex();
+        } else {
+            index = null;
+        }
+    }
+
+    private void compact() {
+        int newUsed = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] == REMOVED) {
+                continue;
+            }
+            keys[newUsed] = keys[i];
+            values[newUsed] = values[i];
+            hashes[newUsed] = hashes[i];
+            newUsed++;
+        }
+        Arrays.fill(keys, newUsed, used, null);
+        Arrays.fill(values, newUsed, used, null);
+        used = newUsed;
+    }
+
+    private void rebuildIndex() {
+        int tableLength = Integer.highestOneBit(keys.length) << 2;
+        if (index == null || index.length != tableLength) {
+            index = new int[tableLength];
+        } else {
+            Arrays.fill(index, 0);
+        }
+        for (int i = 0; i < used; i++) {
+            addToIndex(i, hashes[i]);
+        }
+    }
+
+    private void addToIndex(int pos, int hash) {
+        int[] table = index;
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = pos + 1;
+    }
+
+    /**
+     * Iterates over the positions of the entries in insertion order.
+     */
+    private abstract class PositionIterator<T> implements Iterator<T> {
+
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        PositionIterator() {
+            next = skipRemoved(0);
+        }
+
+        private int skipRemoved(int pos) {
+            while (pos < used && keys[pos] == REMOVED) {
+                pos++;
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        int nextPosition() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = skipRemoved(next + 1);
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class MapEntry implements Map.Entry<K, V> {
+
+        private final int pos;
+        private final K key;
+        private V value;
+
+        MapEntry(int pos) {
+            this.pos = pos;
+            this.key = keyAt(pos);
+            this.value = elementAt(pos);
+        }
+
+        private boolean isAttached() {
+            return pos < used && keys[pos] == key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            if (isAttached()) {
+                value = elementAt(pos);
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = getValue();
+            if (isAttached()) {
+                values[pos] = value;
+            }
+            this.value = value;
+            return oldValue;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> entry && Objects.equals(key, entry.getKey()) &&
+                    Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new PositionIterator<>() {
+                @Override
+                public Map.Entry<K, V> next() {
+                    return new MapEntry(nextPosition());
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry<?, ?> entry)) {
+                return false;
+            }
+            Object key = entry.getKey();
+            int pos = find(key, hash(key));
+            return pos >= 0 && Objects.equals(values[pos], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            Object key = ((Map.Entry<?, ?>) o).getKey();
+            removeAt(find(key, hash(key)));
+            return true;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<K> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<K> iterator() {
+            return new PositionIterator<>() {
+                @Override
+                public K next() {
+                    return keyAt(nextPosition());
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            int pos = find(key, hash(key));
+            if (pos < 0) {
+                return false;
+            }
+            removeAt(pos);
+            return true;
+        }
+    }
+
+    private final class Values extends AbstractCollection<V> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OrderedHashMap.this.clear();
+        }
+
+        @Override
+        public Iterator<V> iterator() {
+            return new PositionIterator<>() {
+                @Override
+                public V next() {
+                    return elementAt(nextPosition());
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+    }
+}
@@ -20,10 +20,13 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 
@@ -40,7 +43,10 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    // Compiled patterns of this regular expression, one for each set of flags it has been compiled with.
+    private volatile CompiledPattern[] patterns = NO_PATTERNS;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
+    private static final CompiledPattern[] NO_PATTERNS = new CompiledPattern[0];
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
         this.regExpDisjunction = regExpDisjunction;
@@ -51,6 +57,29 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the java pattern of this regular expression compiled with the given flags. The pattern is compiled the
+     * first time it is requested for the flags and is kept on this value afterwards.
+     *
+     * @param flags match flags of the pattern
+     * @return compiled pattern
+     */
+    public Pattern getPattern(int flags) {
+        CompiledPattern[] cachedPatterns = this.patterns;
+        for (CompiledPattern cachedPattern : cachedPatterns) {
+            // Pattern.flags() cannot be compared instead, as it includes the flags implied by the given ones
+            if (cachedPattern.flags == flags) {
+                return cachedPattern.pattern;
+            }
+        }
+        Pattern pattern = RegExpFactory.compilePattern(this, flags);
+        // A pattern added by a racing thread may be lost, in which case it is compiled again the next time.
+        CompiledPattern[] newPatterns = Arrays.copyOf(cachedPatterns, cachedPatterns.length + 1);
+        newPatterns[cachedPatterns.length] = new CompiledPattern(flags, pattern);
+        this.patterns = newPatterns;
+        return pattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -123,4 +152,7 @@ public class RegExpValue implements BRegexpValue, RefValue {
         }
         return this.stringValue(null).equals(rhsRegExpValue.stringValue(null));
     }
+
+    private record CompiledPattern(int flags, Pattern pattern) {
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Arrays;
+
+/**
+ * Buffer shared by the string values produced by successive concatenations, e.g. {@code s = s + x} in a loop.
+ * <p>
+ * Each string value backed by a buffer represents a prefix of it. A value can append in place only if it is the
+ * longest value created from the buffer so far, otherwise the characters already in the buffer belong to another
+ * value and the concatenation falls back to a new buffer. Since appending never changes an existing prefix, the
+ * values sharing a buffer stay immutable. The character and surrogate arrays are only copied when they grow.
+ *
+ * @since 2201.11.0
+ */
+final class StringConcatBuffer {
+
+    private static final int[] NO_SURROGATES = new int[0];
+
+    private final StringBuilder chars;
+    private int[] surrogates = NO_SURROGATES;
+    private int surrogateCount;
+
+    StringConcatBuffer(int capacity) {
+        this.chars = new StringBuilder(capacity);
+    }
+
+    /**
+     * Appends the given string if the buffer currently ends at the given length.
+     *
+     * @param expectedLength   length of the value that the string is appended to
+     * @param str              string to be appended
+     * @param strSurrogates    code point indices of the surrogate pairs in the string
+     * @param strSurrogateCount number of surrogate pairs in the string
+     * @return the value for the appended content, or null if the buffer does not end at the expected length
+     */
+    synchronized StringValue append(int expectedLength, String str, int[] strSurrogates, int strSurrogateCount) {
+        if (chars.length() != expectedLength) {
+            return null;
+        }
+        if (strSurrogateCount > 0) {
+            int codePointOffset = chars.length() - surrogateCount;
+            int newCount = surrogateCount + strSurrogateCount;
+            if (newCount > surrogates.length) {
+                surrogates = Arrays.copyOf(surrogates, Math.max(newCount, surrogates.length << 1));
+            }
+            for (int i = 0; i < strSurrogateCount; i++) {
+                surrogates[surrogateCount + i] = strSurrogates[i] + codePointOffset;
+            }
+            surrogateCount = newCount;
+        }
+        chars.append(str);
+        if (surrogateCount == 0) {
+            return new BufferedBmpStringValue(this, chars.length());
+        }
+        return new BufferedNonBmpStringValue(this, chars.length(), surrogates, surrogateCount);
+    }
+
+    /**
+     * Creates a new buffer holding a prefix of this buffer.
+     *
+     * @param length              length of the prefix in chars
+     * @param prefixSurrogateCount number of surrogate pairs in the prefix
+     * @param capacity            initial capacity of the new buffer in chars
+     * @return the new buffer
+     */
+    synchronized StringConcatBuffer copyPrefix(int length, int prefixSurrogateCount, int capacity) {
+        StringConcatBuffer newBuffer = new StringConcatBuffer(capacity);
+        newBuffer.chars.append(chars, 0, length);
+        if (prefixSurrogateCount > 0) {
+            newBuffer.surrogates = Arrays.copyOf(surrogates, prefixSurrogateCount);
+            newBuffer.surrogateCount = prefixSurrogateCount;
+        }
+        return newBuffer;
+    }
+
+    synchronized String substring(int length) {
+        return chars.substring(0, length);
+    }
+}
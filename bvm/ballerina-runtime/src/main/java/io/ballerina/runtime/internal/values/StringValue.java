@@ -26,12 +26,22 @@ import java.util.Map;
 
 /**
  * Class representing ballerina strings.
+ * <p>
+ * Long strings created by concatenation are kept in a {@link StringConcatBuffer} shared with the string they were
+ * created from, so that repeatedly appending to a string does not copy it every time. Such values are represented
+ * by {@link BufferedBmpStringValue} and {@link BufferedNonBmpStringValue}, all other values hold their content in a
+ * final field.
  *
  * @since 1.0.5
  */
 public abstract class StringValue implements BString, SimpleValue {
 
-    final String value;
+    /**
+     * Minimum length of a concatenation result for it to be kept in a buffer, shorter results are created eagerly.
+     */
+    private static final int MIN_BUFFERED_LENGTH = 256;
+
+    private final String value;
     final boolean isNonBmp;
 
     protected StringValue(String value, boolean isNonBmp) {
@@ -64,9 +74,106 @@ public abstract class StringValue implements BString, SimpleValue {
         return value;
     }
 
+    /**
+     * Returns the number of UTF-16 chars in this string, without flattening it.
+     *
+     * @return number of chars
+     */
+    int charLength() {
+        return value.length();
+    }
+
+    /**
+     * Appends the given string without copying this value, if this value is backed by a concat buffer which ends
+     * with it.
+     *
+     * @param str               string to be appended
+     * @param strSurrogates     code point indices of the surrogate pairs in the string
+     * @param strSurrogateCount number of surrogate pairs in the string
+     * @return the concatenated value, or null if it cannot be appended in place
+     */
+    StringValue appendInPlace(String str, int[] strSurrogates, int strSurrogateCount) {
+        return null;
+    }
+
+    /**
+     * Checks whether this value is a concatenation result whose content has already been read as a string.
+     *
+     * @return true if this is a flattened concatenation result
+     */
+    boolean isFlattened() {
+        return false;
+    }
+
+    /**
+     * Creates a concat buffer which starts with the content of this value.
+     *
+     * @param capacity initial capacity of the buffer in chars
+     * @return the new buffer
+     */
+    StringConcatBuffer newConcatBuffer(int capacity) {
+        StringConcatBuffer newBuffer = new StringConcatBuffer(capacity);
+        if (isNonBmp) {
+            NonBmpStringValue nonBmpThis = (NonBmpStringValue) this;
+            newBuffer.append(0, value, nonBmpThis.surrogates, nonBmpThis.surrogateCount);
+        } else {
+            newBuffer.append(0, value, null, 0);
+        }
+        return newBuffer;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringValue other = (StringValue) str;
+        String otherValue = other.getValue();
+        int[] otherSurrogates = null;
+        int otherSurrogateCount = 0;
+        if (other.isNonBmp) {
+            NonBmpStringValue nonBmpOther = (NonBmpStringValue) other;
+            otherSurrogates = nonBmpOther.surrogates;
+            otherSurrogateCount = nonBmpOther.surrogateCount;
+        }
+
+        StringValue result = appendInPlace(otherValue, otherSurrogates, otherSurrogateCount);
+        if (result != null) {
+            return result;
+        }
+        // A concatenation result which has already been read is not copied into a new buffer, as reading the new
+        // value would copy it once more, whereas an eager concatenation copies it only once.
+        int length = charLength();
+        if (length + otherValue.length() < MIN_BUFFERED_LENGTH || isFlattened()) {
+            return concatEagerly(otherValue, otherSurrogates, otherSurrogateCount);
+        }
+        StringConcatBuffer newBuffer = newConcatBuffer((length + otherValue.length()) << 1);
+        return newBuffer.append(length, otherValue, otherSurrogates, otherSurrogateCount);
+    }
+
+    private BString concatEagerly(String otherValue, int[] otherSurrogates, int otherSurrogateCount) {
+        String result = getValue() + otherValue;
+        if (!isNonBmp && otherSurrogateCount == 0) {
+            return new BmpStringValue(result);
+        }
+        int[] surrogates = null;
+        int surrogateCount = 0;
+        if (isNonBmp) {
+            NonBmpStringValue nonBmpThis = (NonBmpStringValue) this;
+            surrogates = nonBmpThis.surrogates;
+            surrogateCount = nonBmpThis.surrogateCount;
+        }
+        int[] newSurrogates = new int[surrogateCount + otherSurrogateCount];
+        if (surrogateCount > 0) {
+            System.arraycopy(surrogates, 0, newSurrogates, 0, surrogateCount);
+        }
+        int codePointLength = length();
+        for (int i = 0; i < otherSurrogateCount; i++) {
+            newSurrogates[surrogateCount + i] = otherSurrogates[i] + codePointLength;
+        }
+        return new NonBmpStringValue(result, newSurrogates);
+    }
+
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +188,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,7 +202,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString bString) {
-            return bString.getValue().equals(value);
+            return bString.getValue().equals(getValue());
         }
         return false;
     }
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Insertion ordered rows of a table, with an open addressing hash index on the keys of the rows.
+ * <p>
+ * Keys and values of the rows are kept in parallel arrays in the order they were added, and the index maps a key to
+ * the position of its row. Keys are compared using {@link TypeChecker#isEqual(Object, Object)}, so keys with
+ * colliding hashes are told apart. A removed row leaves a gap behind which is skipped when iterating, and the gaps
+ * are squeezed out when the rows run out of space. Rows of tables without a key sequence are appended without being
+ * added to the index. Secondary indexes on other fields of the rows are kept in sync with the rows.
+ * <p>
+ * Squeezing out the gaps moves rows to new positions. Each row also gets an increasing sequence number when it is
+ * added, which iterators use to find their place again once the rows have moved.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of rows
+ *
+ * @since 2201.11.0
+ */
+final class TableRowIndex<K, V> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int EMPTY_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+    private static final Object REMOVED = new Object();
+
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+    private long[] sequences;
+    // Each slot holds the position of a row plus one, or one of EMPTY_SLOT and DELETED_SLOT.
+    private int[] slots;
+    private int size;
+    // Number of positions used by rows, including the removed ones.
+    private int used;
+    private int removed;
+    private long nextSequence;
+    // Incremented whenever the positions of the rows change.
+    private int moves;
+    private boolean indexed;
+    private List<TableSecondaryIndex> secondaryIndexes;
+
+    TableRowIndex() {
+        this.keys = new Object[DEFAULT_CAPACITY];
+        this.values = new Object[DEFAULT_CAPACITY];
+        this.hashes = new int[DEFAULT_CAPACITY];
+        this.sequences = new long[DEFAULT_CAPACITY];
+        this.slots = new int[DEFAULT_CAPACITY * 2];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    V get(Object key) {
+        int position = positionOf(key, hash(key));
+        return position < 0 ? null : (V) values[position];
+    }
+
+    boolean containsKey(Object key) {
+        return positionOf(key, hash(key)) >= 0;
+    }
+
+    /**
+     * Adds a row for the given key unless there already is a row for an equal key.
+     *
+     * @param key   key of the row
+     * @param value row
+     * @return true if the row was added
+     */
+    boolean add(K key, V value) {
+        int hash = hash(key);
+        if (positionOf(key, hash) >= 0) {
+            return false;
+        }
+        insert(key, value, hash);
+        return true;
+    }
+
+    /**
+     * Adds a row for the given key, replacing the row of an equal key in its place if there is one.
+     *
+     * @param key   key of the row
+     * @param value row
+     * @return replaced row, or null if there was no row for the key
+     */
+    V put(K key, V value) {
+        int hash = hash(key);
+        int position = positionOf(key, hash);
+        if (position < 0) {
+            insert(key, value, hash);
+            return null;
+        }
+        V oldValue = (V) values[position];
+        keys[position] = key;
+        values[position] = value;
+        if (secondaryIndexes != null) {
+            for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.remove(oldValue, position);
+                secondaryIndex.add(value, position);
+            }
+        }
+        return oldValue;
+    }
+
+    /**
+     * Adds a row without adding it to the index. Used by tables without a key sequence.
+     *
+     * @param key   the value the row is known by when iterating
+     * @param value row
+     */
+    void append(K key, V value) {
+        ensureCapacity();
+        keys[used] = key;
+        values[used] = value;
+        sequences[used] = nextSequence++;
+        addToSecondaryIndexes(value, used);
+        used++;
+        size++;
+    }
+
+    V remove(Object key) {
+        int hash = hash(key);
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == EMPTY_SLOT) {
+                return null;
+            }
+            if (entry != DELETED_SLOT) {
+                int position = entry - 1;
+                if (hashes[position] == hash && TypeChecker.isEqual(keys[position], key)) {
+                    V oldValue = (V) values[position];
+                    if (secondaryIndexes != null) {
+                        for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+                            secondaryIndex.remove(oldValue, position);
+                        }
+                    }
+                    slots[slot] = DELETED_SLOT;
+                    keys[position] = REMOVED;
+                    values[position] = null;
+                    size--;
+                    removed++;
+                    return oldValue;
+                }
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        Arrays.fill(slots, EMPTY_SLOT);
+        if (secondaryIndexes != null) {
+            for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.clear();
+            }
+        }
+        size = used = removed = 0;
+        moves++;
+        indexed = false;
+    }
+
+    void addSecondaryIndex(TableSecondaryIndex secondaryIndex) {
+        if (secondaryIndexes == null) {
+            secondaryIndexes = new ArrayList<>(1);
+        }
+        secondaryIndexes.add(secondaryIndex);
+        for (int i = nextPosition(0); i >= 0; i = nextPosition(i + 1)) {
+            secondaryIndex.add(values[i], i);
+        }
+    }
+
+    TableSecondaryIndex getSecondaryIndex(BString fieldName) {
+        if (secondaryIndexes == null) {
+            return null;
+        }
+        for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+            if (secondaryIndex.getFieldName().equals(fieldName)) {
+                return secondaryIndex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the position of the first row at or after the given position.
+     *
+     * @param position position to start from
+     * @return position of the row, or -1 if there are no more rows
+     */
+    int nextPosition(int position) {
+        for (; position < used; position++) {
+            if (keys[position] != REMOVED) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of times the rows have moved to new positions, so that a change of the count tells that
+     * positions held on to are no longer valid.
+     *
+     * @return number of moves
+     */
+    int moveCount() {
+        return moves;
+    }
+
+    long sequenceAt(int position) {
+        return sequences[position];
+    }
+
+    /**
+     * Returns the position following the row with the given sequence number, which is where iterating continues
+     * after that row even if it has been removed since.
+     *
+     * @param sequence sequence number of a row
+     * @return position to continue from
+     */
+    int positionAfter(long sequence) {
+        // Rows keep the order they were added in, hence sequence numbers are sorted by position.
+        int low = 0;
+        int high = used;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequences[mid] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    K keyAt(int position) {
+        return (K) keys[position];
+    }
+
+    V valueAt(int position) {
+        return (V) values[position];
+    }
+
+    Object[] getKeys() {
+        Object[] result = new Object[size];
+        for (int i = 0, j = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    List<V> getValues() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                result.add((V) values[i]);
+            }
+        }
+        return result;
+    }
+
+    private int positionOf(Object key, int hash) {
+        int mask = slots.length - 1;
+        for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot];
+            if (entry == EMPTY_SLOT) {
+                return -1;
+            }
+            if (entry != DELETED_SLOT) {
+                int position = entry - 1;
+                if (hashes[position] == hash && TypeChecker.isEqual(keys[position], key)) {
+                    return position;
+                }
+            }
+        }
+    }
+
+    private void insert(K key, V value, int hash) {
+        ensureCapacity();
+        int position = used++;
+        keys[position] = key;
+        values[position] = value;
+        hashes[position] = hash;
+        sequences[position] = nextSequence++;
+        size++;
+        indexed = true;
+        addToSlots(position, hash);
+        addToSecondaryIndexes(value, position);
+    }
+
+    private void addToSecondaryIndexes(V value, int position) {
+        if (secondaryIndexes != null) {
+            for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.add(value, position);
+            }
+        }
+    }
+
+    private void addToSlots(int position, int hash) {
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        while (slots[slot] > EMPTY_SLOT) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = position + 1;
+    }
+
+    private void ensureCapacity() {
+        if (used < keys.length) {
+            return;
+        }
+        int capacity = keys.length;
+        if (removed < capacity >> 2) {
+            capacity += capacity >> 1;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            sequences = Arrays.copyOf(sequences, capacity);
+        }
+        compact();
+    }
+
+    // Squeezes out the removed rows and rebuilds the index, which also drops the deleted slots.
+    private void compact() {
+        boolean hasRemovedRows = removed > 0;
+        int position = 0;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                keys[position] = keys[i];
+                values[position] = values[i];
+                hashes[position] = hashes[i];
+                sequences[position] = sequences[i];
+                position++;
+            }
+        }
+        Arrays.fill(keys, position, used, null);
+        Arrays.fill(values, position, used, null);
+        used = position;
+        removed = 0;
+        if (hasRemovedRows) {
+            moves++;
+        }
+        if (hasRemovedRows && secondaryIndexes != null) {
+            // positions of the rows have changed
+            for (TableSecondaryIndex secondaryIndex : secondaryIndexes) {
+                secondaryIndex.clear();
+                for (int i = 0; i < used; i++) {
+                    secondaryIndex.add(values[i], i);
+                }
+            }
+        }
+
+        if (!indexed) {
+            return;
+        }
+        // Keep at least twice as many slots as rows, so that probing always finds an empty slot.
+        int slotCount = Integer.highestOneBit(keys.length * 2 - 1) << 1;
+        if (slots.length != slotCount) {
+            slots = new int[slotCount];
+        } else {
+            Arrays.fill(slots, EMPTY_SLOT);
+        }
+        for (int i = 0; i < used; i++) {
+            addToSlots(i, hashes[i]);
+        }
+    }
+
+    private static int hash(Object key) {
+        long hash = TableUtils.hash(key, null);
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A secondary index on a field of the rows of a table, which is not part of the key sequence of the table.
+ * <p>
+ * The index maps each value of the field to the positions of the rows in {@link TableRowIndex} having that value.
+ * Positions of a value are kept in ascending order, so that the rows found using the index are in the same order as
+ * in the table. A hash index supports equality lookups, while a sorted index also supports range lookups. Only
+ * readonly fields can be indexed, since an update to an indexed field would not be seen by the index.
+ *
+ * @since 2201.11.0
+ */
+final class TableSecondaryIndex {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final BString fieldName;
+    private final boolean sorted;
+    private final Map<Object, Positions> positions;
+
+    TableSecondaryIndex(BString fieldName, boolean sorted) {
+        this.fieldName = fieldName;
+        this.sorted = sorted;
+        this.positions = sorted ?
+                new TreeMap<>((lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, "ascending")) :
+                new HashMap<>();
+    }
+
+    BString getFieldName() {
+        return fieldName;
+    }
+
+    boolean isSorted() {
+        return sorted;
+    }
+
+    void add(Object row, int position) {
+        positions.computeIfAbsent(getFieldValue(row), value -> new Positions()).add(position);
+    }
+
+    void remove(Object row, int position) {
+        Object value = getFieldValue(row);
+        Positions valuePositions = positions.get(value);
+        if (valuePositions != null && valuePositions.remove(position) && valuePositions.size == 0) {
+            positions.remove(value);
+        }
+    }
+
+    void clear() {
+        positions.clear();
+    }
+
+    /**
+     * Returns the positions of the rows which have the given value for the field.
+     *
+     * @param value value of the field
+     * @return positions in ascending order
+     */
+    int[] lookup(Object value) {
+        Positions valuePositions = positions.get(normalize(value));
+        return valuePositions == null ? NO_POSITIONS : Arrays.copyOf(valuePositions.items, valuePositions.size);
+    }
+
+    /**
+     * Returns the positions of the rows which have a value less than, or greater than the given value for the field.
+     * Only supported by sorted indexes.
+     *
+     * @param value     value to compare with
+     * @param lessThan  whether to look for values less than the given value
+     * @param inclusive whether the rows with the given value are included
+     * @return positions in ascending order
+     */
+    int[] lookupRange(Object value, boolean lessThan, boolean inclusive) {
+        NavigableMap<Object, Positions> sortedPositions = (NavigableMap<Object, Positions>) positions;
+        Object key = normalize(value);
+        Collection<Positions> range = lessThan ? sortedPositions.headMap(key, inclusive).values() :
+                sortedPositions.tailMap(key, inclusive).values();
+        int count = 0;
+        for (Positions valuePositions : range) {
+            count += valuePositions.size;
+        }
+        int[] result = new int[count];
+        int index = 0;
+        for (Positions valuePositions : range) {
+            System.arraycopy(valuePositions.items, 0, result, index, valuePositions.size);
+            index += valuePositions.size;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private Object getFieldValue(Object row) {
+        return normalize(((BMap<BString, Object>) row).get(fieldName));
+    }
+
+    // byte values are represented as integers, while they are equal to the same int values
+    private static Object normalize(Object value) {
+        return value instanceof Integer intValue ? Long.valueOf(intValue) : value;
+    }
+
+    /**
+     * Positions of the rows having the same value, in ascending order.
+     */
+    private static final class Positions {
+
+        private int[] items = new int[2];
+        private int size;
+
+        void add(int position) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size << 1);
+            }
+            if (size == 0 || items[size - 1] < position) {
+                items[size++] = position;
+                return;
+            }
+            int index = -Arrays.binarySearch(items, 0, size, position) - 1;
+            System.arraycopy(items, index, items, index + 1, size - index);
+            items[index] = position;
+            size++;
+        }
+
+        boolean remove(int position) {
+            int index = Arrays.binarySearch(items, 0, size, position);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(items, index + 1, items, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
@@ -20,12 +20,14 @@ package io.ballerina.runtime.internal.values;
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.runtime.api.types.Field;
 import io.ballerina.runtime.api.types.TableType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BIterator;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BMap;
@@ -39,6 +41,7 @@ import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
+import io.ballerina.runtime.internal.types.BFiniteType;
 import io.ballerina.runtime.internal.types.BIntersectionType;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -53,16 +56,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.TreeMap;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.api.utils.TypeUtils.getImpliedType;
@@ -89,18 +88,12 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private Type type;
     private TableType tableType;
     private Type iteratorNextReturnType;
-    private final ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private final LinkedHashMap<Long, List<V>> values;
+    // Rows in the order they were added, indexed by their keys
+    private final TableRowIndex<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private final Map<Long, K> indexToKeyMap;
-    private final Map<K, Long> keyToIndexMap;
-    private final Map<K, V> keyValues;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
     private final Map<String, Object> nativeData = new HashMap<>();
@@ -109,12 +102,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType tableType) {
         this.type = this.tableType = tableType;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new TreeMap<>();
+        this.rows = new TableRowIndex<>();
         this.fieldNames = tableType.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
         if (tableType.getFieldNames().length > 0) {
             this.valueHolder = new KeyHashValueHolder();
         } else {
@@ -167,12 +156,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         TableValueImpl<K, V> clone = new TableValueImpl<>(tableType);
         clone.type = type;
+        refs.put(this, clone);
 
         if (fieldNames != null) {
             clone.fieldNames = fieldNames;
@@ -252,30 +243,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int i = rows.nextPosition(0); i >= 0; i = rows.nextPosition(i + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(i), rows.valueAt(i)));
         }
         return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
-        }
-        return newValues;
+        return rows.getValues();
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
     }
 
     @Override
@@ -306,7 +288,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return indexToKeyMap.isEmpty() ? 0 : (this.maxIntKey + 1);
+        return rows.isEmpty() ? 0 : (this.maxIntKey + 1);
     }
 
     @Override
@@ -314,6 +296,145 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return this.valueHolder.getKeyType();
     }
 
+    @Override
+    public void addIndex(BString fieldName, boolean sorted) {
+        TableSecondaryIndex existingIndex = rows.getSecondaryIndex(fieldName);
+        if (existingIndex != null) {
+            if (existingIndex.isSorted() != sorted) {
+                throw createIndexError(fieldName, "the field is already indexed");
+            }
+            return;
+        }
+        validateIndexedField(fieldName);
+        rows.addSecondaryIndex(new TableSecondaryIndex(fieldName, sorted));
+    }
+
+    @Override
+    public boolean hasIndex(BString fieldName) {
+        return rows.getSecondaryIndex(fieldName) != null;
+    }
+
+    /**
+     * Returns the rows whose value for the given field satisfies the given comparison with the given value, using the
+     * secondary index of the field. If the field is not indexed, or the index cannot be used for the comparison, the
+     * table itself is returned. Hence, the result may contain rows which do not satisfy the comparison, but never
+     * misses a row which does.
+     *
+     * @param fieldName name of the field
+     * @param operator  one of {@code ==, <, <=, >, >=}
+     * @param value     value to compare the field with
+     * @return a table with the rows found using the index, in the same order as in this table
+     */
+    public TableValueImpl<K, V> getIndexedRows(BString fieldName, String operator, Object value) {
+        TableSecondaryIndex index = rows.getSecondaryIndex(fieldName);
+        if (index == null) {
+            return this;
+        }
+        int[] positions;
+        try {
+            switch (operator) {
+                case "==" -> positions = index.lookup(value);
+                case "<", "<=", ">", ">=" -> {
+                    // comparisons with nil are always false, leave it to the where clause
+                    if (!index.isSorted() || value == null) {
+                        return this;
+                    }
+                    positions = index.lookupRange(value, operator.charAt(0) == '<', operator.length() == 2);
+                }
+                default -> {
+                    return this;
+                }
+            }
+        } catch (BError e) {
+            // the value is not comparable with the values of the field
+            return this;
+        }
+
+        TableValueImpl<K, V> indexedRows = new TableValueImpl<>(tableType);
+        indexedRows.type = type;
+        indexedRows.fieldNames = fieldNames;
+        boolean isKeyed = fieldNames != null && fieldNames.length > 0;
+        for (int position : positions) {
+            if (isKeyed) {
+                indexedRows.rows.add(rows.keyAt(position), rows.valueAt(position));
+            } else {
+                indexedRows.rows.append(rows.keyAt(position), rows.valueAt(position));
+            }
+        }
+        return indexedRows;
+    }
+
+    private void validateIndexedField(BString fieldName) {
+        String name = fieldName.getValue();
+        if (fieldNames != null && Arrays.asList(fieldNames).contains(name)) {
+            throw createIndexError(fieldName, "the field is part of the key sequence");
+        }
+        Type constraintType = getImpliedType(tableType.getConstrainedType());
+        if (constraintType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            throw createIndexError(fieldName, "only fields of record rows can be indexed");
+        }
+        BRecordType recordType = (BRecordType) constraintType;
+        Field field = recordType.getFields().get(name);
+        if (field == null) {
+            throw createIndexError(fieldName, "no such field in '" + recordType + "'");
+        }
+        if (!tableType.isReadOnly() && !recordType.isReadOnly() &&
+                !SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.READONLY)) {
+            throw createIndexError(fieldName, "the field is not readonly");
+        }
+        if (getIndexedBasicTypeTag(field.getFieldType()) < 0) {
+            throw createIndexError(fieldName, "fields of type '" + field.getFieldType() + "' cannot be indexed");
+        }
+    }
+
+    // Returns the tag of the basic type of the non-nil values of the given type, or -1 if the values are not of a
+    // single basic type which can be indexed.
+    private static int getIndexedBasicTypeTag(Type type) {
+        Type impliedType = getImpliedType(type);
+        switch (impliedType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.SIGNED32_INT_TAG, TypeTags.SIGNED16_INT_TAG, TypeTags.SIGNED8_INT_TAG,
+                    TypeTags.UNSIGNED32_INT_TAG, TypeTags.UNSIGNED16_INT_TAG, TypeTags.UNSIGNED8_INT_TAG,
+                    TypeTags.BYTE_TAG:
+                return TypeTags.INT_TAG;
+            case TypeTags.STRING_TAG, TypeTags.CHAR_STRING_TAG:
+                return TypeTags.STRING_TAG;
+            case TypeTags.BOOLEAN_TAG:
+                return TypeTags.BOOLEAN_TAG;
+            case TypeTags.NULL_TAG:
+                return TypeTags.NULL_TAG;
+            case TypeTags.UNION_TAG:
+                int unionTag = TypeTags.NULL_TAG;
+                for (Type memberType : ((BUnionType) impliedType).getMemberTypes()) {
+                    unionTag = mergeIndexedBasicTypeTags(unionTag, getIndexedBasicTypeTag(memberType));
+                }
+                return unionTag;
+            case TypeTags.FINITE_TYPE_TAG:
+                int finiteTag = TypeTags.NULL_TAG;
+                for (Object value : ((BFiniteType) impliedType).getValueSpace()) {
+                    finiteTag = mergeIndexedBasicTypeTags(finiteTag,
+                            getIndexedBasicTypeTag(TypeChecker.getType(value)));
+                }
+                return finiteTag;
+            default:
+                return -1;
+        }
+    }
+
+    private static int mergeIndexedBasicTypeTags(int tag, int otherTag) {
+        if (tag < 0 || otherTag < 0) {
+            return -1;
+        }
+        if (tag == TypeTags.NULL_TAG) {
+            return otherTag;
+        }
+        return otherTag == TypeTags.NULL_TAG || otherTag == tag ? tag : -1;
+    }
+
+    private static BError createIndexError(BString fieldName, String detail) {
+        return ErrorCreator.createError(OPERATION_NOT_SUPPORTED_ERROR,
+                StringUtils.fromString("cannot index field '" + fieldName + "': " + detail));
+    }
+
     @Override
     public V fillAndGet(Object key) {
         if (containsKey(key)) {
@@ -335,17 +456,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) indexToKeyMap.values().toArray();
+        return (K[]) rows.getKeys();
     }
 
     @Override
     public int size() {
-        return values().size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.isEmpty();
     }
 
     @Override
@@ -374,8 +495,11 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        StringJoiner sj = new StringJoiner(",");
+        for (int i = rows.nextPosition(0); i >= 0; i = rows.nextPosition(i + 1)) {
+            sj.add(getStringVal(rows.valueAt(i), new CycleUtils.Node(this, parent)));
+        }
+        return "[" + sj + "]";
     }
 
     @Override
@@ -385,43 +509,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
-    }
-
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
-        StringJoiner sj = new StringJoiner(",");
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getStringVal(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getStringVal(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
-        }
-        return "[" + sj + "]";
-    }
-
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         String[] keysList = tableType.getFieldNames();
         for (String string : keysList) {
             keyJoiner.add(string);
         }
-        while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(getExpressionStringVal(data, new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(getExpressionStringVal(struct.getValue().get(0), new CycleUtils.Node(this, parent)));
-            }
+        for (int i = rows.nextPosition(0); i >= 0; i = rows.nextPosition(i + 1)) {
+            sj.add(getExpressionStringVal(rows.valueAt(i), new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -511,37 +606,50 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     private class TableIterator implements IteratorValue<Object> {
-        private long cursor;
+        private int cursor;
+        // Sequence number of the last returned row, used to find the cursor again once the rows have moved.
+        private long lastSequence = -1;
+        private int moveCount;
 
         TableIterator() {
             this.cursor = 0;
+            this.moveCount = rows.moveCount();
         }
 
         @Override
         public Object next() {
-            if (indexToKeyMap.containsKey(cursor)) {
-                K key = indexToKeyMap.get(cursor);
-                V value = keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            int position = nextPosition();
+            if (position < 0) {
+                throw new NoSuchElementException();
             }
+            K key = rows.keyAt(position);
+            V value = rows.valueAt(position);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor = position + 1;
+            lastSequence = rows.sequenceAt(position);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries && !values.isEmpty();
+            return nextPosition() >= 0;
+        }
+
+        private int nextPosition() {
+            int currentMoveCount = rows.moveCount();
+            if (moveCount != currentMoveCount) {
+                cursor = rows.positionAfter(lastSequence);
+                moveCount = currentMoveCount;
+            }
+            return rows.nextPosition(cursor);
         }
     }
 
@@ -563,18 +671,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue<?, ?>) data, tableType);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>((K) data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            Long hash = (long) uuid.hashCode();
-            updateIndexKeyMappings(hash, (K) data, data);
-            entries.put(hash, entryList);
-            values.put(hash, newData);
+            rows.append((K) data, data);
             return data;
         }
 
@@ -612,47 +709,24 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
 
-            if (containsKey(key)) {
+            boolean isEmpty = rows.isEmpty();
+            if (!rows.add(key, data)) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (indexToKeyMap.isEmpty() || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (isEmpty || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                return;
-            }
-
-            putNewData(key, data, entry, hash);
         }
 
         @Override
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
-                return null;
-            }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            return rows.get(key);
         }
 
         @Override
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue<?, ?>) data);
             Long actualHash = TableUtils.hash(actualKey, null);
             Long hash = TableUtils.hash(key, null);
@@ -662,21 +736,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                         ErrorHelper.getErrorDetails(ErrorCodes.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V putNewData(K key, V value, Map.Entry<K, V> entry, Long hash) {
-            List<V> data = new ArrayList<>();
-            data.add(value);
-            updateIndexKeyMappings(hash, key, value);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            values.put(hash, data);
-            return data.get(0);
+            rows.put(key, data);
+            return data;
         }
 
         @Override
@@ -684,78 +745,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-
-            if (entries.containsKey(hash)) {
-                return updateExistingEntry(key, data, entry, hash);
-            }
-            return putNewData(key, data, entry, hash);
-        }
-
-        private V updateExistingEntry(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            updateIndexKeyMappings(hash, key, data);
-            List<V> valueList = values.get(hash);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> extEntry: entryList) {
-                // Handle hash-collided entries
-                if (TypeChecker.isEqual(key, extEntry.getKey())) {
-                    entryList.remove(extEntry);
-                    valueList.remove(extEntry.getValue());
-                    break;
-                }
-            }
-            entryList.add(entry);
-            values.get(hash).add(data);
+            rows.put(key, data);
             return data;
         }
 
         @Override
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            if (entryList != null) {
-                Long index = keyToIndexMap.remove(entryList.get(0).getKey());
-                indexToKeyMap.remove(index);
-                if (index != null && index == noOfAddedEntries - 1) {
-                    noOfAddedEntries--;
-                }
-            }
-            entries.remove(hash);
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
-                return null;
-            }
-            return removedValue.get(0);
+            return rows.remove(key);
         }
 
         @Override
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
+            return rows.containsKey(key);
         }
 
         @Override
@@ -808,27 +809,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash, K key, V value) {
-        if (entries.containsKey(hash)) {
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(entry.getKey(), key)) {
-                    long index = keyToIndexMap.remove(entry.getKey());
-                    keyToIndexMap.put(key, index);
-                    indexToKeyMap.put(index, key);
-                    keyValues.remove(entry.getKey());
-                    keyValues.put(key, value);
-                    return;
-                }
-            }
-        }
-        keyToIndexMap.put(key, noOfAddedEntries);
-        indexToKeyMap.put(noOfAddedEntries, key);
-        keyValues.put(key, value);
-        noOfAddedEntries++;
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue<?, ?> dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -108,7 +108,7 @@ public class TupleValueImpl extends AbstractArrayValue {
             this.maxSize = this.size;
             this.refValues = new Object[this.size];
         } else {
-            this.refValues = new Object[DEFAULT_ARRAY_SIZE];
+            this.refValues = new Object[this.size];
         }
 
         for (int i = 0; i < memTypeCount; i++) {
@@ -152,7 +152,7 @@ public class TupleValueImpl extends AbstractArrayValue {
             this.maxSize = this.size;
             this.refValues = new Object[this.size];
         } else {
-            this.refValues = new Object[DEFAULT_ARRAY_SIZE];
+            this.refValues = new Object[this.size];
         }
 
         int index = 0;
@@ -523,8 +523,9 @@ public class TupleValueImpl extends AbstractArrayValue {
             return this;
         }
 
-        if (refs.containsKey(this)) {
-            return refs.get(this);
+        Object copy = refs.get(this);
+        if (copy != null) {
+            return copy;
         }
 
         Object[] values = new Object[this.size];
@@ -725,7 +726,7 @@ public class TupleValueImpl extends AbstractArrayValue {
         }
 
         // Here the growth rate is 1.5. This value has been used by many other languages
-        int newArraySize = currentArraySize + (currentArraySize >> 1);
+        int newArraySize = Math.max(currentArraySize + (currentArraySize >> 1), MIN_ARRAY_GROWTH_SIZE);
 
         // Now get the maximum value of the calculate new array size and request capacity
         newArraySize = Math.max(newArraySize, requestedCapacity);
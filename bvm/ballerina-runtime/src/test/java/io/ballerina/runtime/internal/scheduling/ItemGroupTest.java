@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Test cases for {@link ItemGroup}.
+ *
+ * @since 2201.11.0
+ */
+public class ItemGroupTest {
+
+    private static final int NUM_PRODUCERS = 8;
+    private static final int ITEMS_PER_PRODUCER = 50000;
+
+    @Test
+    public void testScheduling() {
+        ItemGroup group = new ItemGroup();
+        Assert.assertFalse(group.isScheduled());
+        Assert.assertTrue(group.isEmpty());
+        Assert.assertNull(group.get());
+
+        SchedulerItem first = createItem(1);
+        SchedulerItem second = createItem(2);
+        // only the first add of an idle group asks the caller to schedule it
+        Assert.assertTrue(group.add(first));
+        Assert.assertFalse(group.add(second));
+        Assert.assertTrue(group.isScheduled());
+        Assert.assertFalse(group.isEmpty());
+
+        // items are taken in the reverse order
+        Assert.assertSame(group.get(), second);
+        Assert.assertSame(group.get(), first);
+        Assert.assertNull(group.get());
+        Assert.assertTrue(group.isEmpty());
+        Assert.assertTrue(group.isScheduled());
+
+        Assert.assertTrue(group.release());
+        Assert.assertFalse(group.isScheduled());
+        Assert.assertTrue(group.add(first));
+    }
+
+    @Test
+    public void testReleaseFailsAfterConcurrentAdd() {
+        SchedulerItem initial = createItem(1);
+        ItemGroup group = new ItemGroup(initial);
+        Assert.assertTrue(group.isScheduled());
+        Assert.assertSame(group.get(), initial);
+        Assert.assertNull(group.get());
+
+        // an item added after the group was found empty keeps it scheduled
+        SchedulerItem added = createItem(2);
+        Assert.assertFalse(group.add(added));
+        Assert.assertFalse(group.release());
+        Assert.assertTrue(group.isScheduled());
+        Assert.assertSame(group.get(), added);
+        Assert.assertTrue(group.release());
+        Assert.assertFalse(group.isScheduled());
+    }
+
+    @Test(timeOut = 60000)
+    public void testConcurrentAddAndRun() throws Exception {
+        ItemGroup group = new ItemGroup();
+        int itemCount = NUM_PRODUCERS * ITEMS_PER_PRODUCER;
+        AtomicIntegerArray runCounts = new AtomicIntegerArray(itemCount);
+        AtomicInteger scheduleCount = new AtomicInteger();
+        // the runnable list of the scheduler
+        BlockingQueue<ItemGroup> runnableList = new LinkedBlockingQueue<>();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < NUM_PRODUCERS; i++) {
+            int firstId = i * ITEMS_PER_PRODUCER;
+            producers.add(new Thread(() -> {
+                for (int id = firstId; id < firstId + ITEMS_PER_PRODUCER; id++) {
+                    if (group.add(createItem(id))) {
+                        scheduleCount.incrementAndGet();
+                        runnableList.add(group);
+                    }
+                }
+            }));
+        }
+
+        int[] releaseCount = new int[1];
+        int[] itemsRun = new int[1];
+        Thread runner = new Thread(() -> {
+            try {
+                while (itemsRun[0] < itemCount) {
+                    ItemGroup scheduled = runnableList.poll(30, TimeUnit.SECONDS);
+                    if (scheduled == null) {
+                        return;
+                    }
+                    // same as Scheduler#runGroup
+                    while (true) {
+                        SchedulerItem item = scheduled.get();
+                        if (item == null) {
+                            if (scheduled.release()) {
+                                releaseCount[0]++;
+                                break;
+                            }
+                            continue;
+                        }
+                        runCounts.incrementAndGet((Integer) item.execute());
+                        itemsRun[0]++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        runner.start();
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        runner.join();
+
+        Assert.assertEquals(itemsRun[0], itemCount);
+        for (int id = 0; id < itemCount; id++) {
+            Assert.assertEquals(runCounts.get(id), 1, "item " + id + " was run " + runCounts.get(id) + " times");
+        }
+        // the group is handed to the runnable list exactly once for each time it was released
+        Assert.assertEquals(scheduleCount.get(), releaseCount[0]);
+        Assert.assertTrue(runnableList.isEmpty());
+        Assert.assertFalse(group.isScheduled());
+        Assert.assertTrue(group.isEmpty());
+    }
+
+    private static SchedulerItem createItem(int id) {
+        return new SchedulerItem(params -> params[0], new Object[]{id}, null);
+    }
+}
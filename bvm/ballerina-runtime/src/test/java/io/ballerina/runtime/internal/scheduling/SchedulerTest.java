@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Test cases for running strands with the {@link Scheduler} in each of the scheduler modes.
+ *
+ * @since 2201.11.0
+ */
+public class SchedulerTest {
+
+    private static final String VIRTUAL_THREADS_MODE = "virtual-threads";
+    private static final int NUM_THREADS = 4;
+    private static final int STRAND_COUNT = 200;
+    private static final int YIELD_COUNT = 10;
+    private static final long MESSAGE_COUNT = 100;
+
+    @DataProvider
+    public Object[][] schedulerModes() {
+        return new Object[][]{{"default"}, {"work-stealing"}, {VIRTUAL_THREADS_MODE}};
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testYieldAndResume(String mode) throws InterruptedException {
+        Scheduler scheduler = createScheduler(mode);
+        Set<String> threadTypes = ConcurrentHashMap.newKeySet();
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            int[] resumeCount = new int[1];
+            futures.add(schedule(scheduler, null, params -> {
+                threadTypes.add(Thread.currentThread().getClass().getName());
+                if (resumeCount[0] < YIELD_COUNT) {
+                    resumeCount[0]++;
+                    ((Strand) params[0]).setState(State.YIELD);
+                    return null;
+                }
+                return (long) resumeCount[0];
+            }));
+        }
+
+        run(scheduler);
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+            Assert.assertEquals(future.result, (long) YIELD_COUNT);
+        }
+        if (VIRTUAL_THREADS_MODE.equals(mode)) {
+            Assert.assertEquals(threadTypes, Set.of("java.lang.VirtualThread"));
+        } else {
+            Assert.assertFalse(threadTypes.contains("java.lang.VirtualThread"));
+        }
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testWait(String mode) throws InterruptedException {
+        Scheduler scheduler = createScheduler(mode);
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            long value = i;
+            FutureValue[] child = new FutureValue[1];
+            futures.add(schedule(scheduler, null, params -> {
+                Strand strand = (Strand) params[0];
+                if (child[0] == null) {
+                    child[0] = schedule(scheduler, strand, yieldingFunction(value));
+                }
+                // same as a wait action, which is evaluated again once the strand is resumed
+                Strand.WaitResult waitResult;
+                try {
+                    waitResult = strand.handleWaitAny(List.of(child[0]));
+                } catch (Throwable e) {
+                    throw new AssertionError(e);
+                }
+                return waitResult.done ? (Long) waitResult.result + 1 : null;
+            }));
+        }
+
+        run(scheduler);
+        for (int i = 0; i < STRAND_COUNT; i++) {
+            FutureValue future = futures.get(i);
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+            Assert.assertEquals(future.result, i + 1L);
+        }
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testWorkerMessaging(String mode) throws InterruptedException {
+        Scheduler scheduler = createScheduler(mode);
+        // workers communicate through the channels of their parent
+        Strand parent = new Strand("parent", null, scheduler, null, null);
+        WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel("channel");
+        long[] nextMessage = new long[1];
+        FutureValue sender = schedule(scheduler, parent, params -> {
+            Strand strand = (Strand) params[0];
+            while (nextMessage[0] < MESSAGE_COUNT) {
+                try {
+                    channel.syncSendData(nextMessage[0], strand);
+                } catch (Throwable e) {
+                    throw new AssertionError(e);
+                }
+                // the strand is yielded instead of blocked if the receiver already took the message
+                if (strand.isYielded()) {
+                    return null;
+                }
+                nextMessage[0]++;
+            }
+            return null;
+        });
+        long[] received = new long[2];
+        FutureValue receiver = schedule(scheduler, parent, params -> {
+            Strand strand = (Strand) params[0];
+            while (received[0] < MESSAGE_COUNT) {
+                Object message;
+                try {
+                    message = channel.tryTakeData(strand);
+                } catch (Throwable e) {
+                    throw new AssertionError(e);
+                }
+                if (message == null) {
+                    // resumed once the sender sends the next message
+                    return null;
+                }
+                received[0]++;
+                received[1] += (Long) message;
+            }
+            return received[1];
+        });
+
+        run(scheduler);
+        Assert.assertTrue(sender.isDone);
+        Assert.assertNull(sender.panic);
+        Assert.assertTrue(receiver.isDone);
+        Assert.assertNull(receiver.panic);
+        Assert.assertEquals(receiver.result, MESSAGE_COUNT * (MESSAGE_COUNT - 1) / 2);
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testShutdownAfterPanic(String mode) throws InterruptedException {
+        Scheduler scheduler = createScheduler(mode);
+        FutureValue panicking = schedule(scheduler, null, params -> {
+            throw new IllegalStateException("panic");
+        });
+        FutureValue completing = schedule(scheduler, null, yieldingFunction(5));
+
+        run(scheduler);
+        Assert.assertTrue(panicking.isDone);
+        Assert.assertTrue(panicking.panic instanceof IllegalStateException);
+        Assert.assertTrue(completing.isDone);
+        Assert.assertEquals(completing.result, 5L);
+    }
+
+    private static Scheduler createScheduler(String mode) {
+        if (VIRTUAL_THREADS_MODE.equals(mode) && Runtime.version().feature() < 21) {
+            throw new SkipException("virtual threads are not supported by the current Java runtime");
+        }
+        return new Scheduler(NUM_THREADS, false, mode);
+    }
+
+    private static FutureValue schedule(Scheduler scheduler, Strand parent, Function<Object[], Object> function) {
+        return scheduler.schedule(new Object[1], function, parent, null, null, PredefinedTypes.TYPE_ANY, null, null);
+    }
+
+    private static Function<Object[], Object> yieldingFunction(long result) {
+        int[] resumeCount = new int[1];
+        return params -> {
+            if (resumeCount[0] < YIELD_COUNT) {
+                resumeCount[0]++;
+                ((Strand) params[0]).setState(State.YIELD);
+                return null;
+            }
+            return result;
+        };
+    }
+
+    /**
+     * Runs the scheduler until all the scheduled strands are completed, which shuts down the scheduler.
+     */
+    private static void run(Scheduler scheduler) throws InterruptedException {
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+        schedulerThread.join(30000);
+        Assert.assertFalse(schedulerThread.isAlive(), "scheduler did not shut down");
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for {@link WorkStealingRunQueue}.
+ *
+ * @since 2201.11.0
+ */
+public class WorkStealingRunQueueTest {
+
+    private static final int NUM_WORKERS = 4;
+    private static final int NUM_PRODUCERS = 4;
+    private static final int GROUPS_PER_PRODUCER = 5000;
+
+    @Test
+    public void testOwnDequeIsLastInFirstOut() throws InterruptedException {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        ItemGroup third = new ItemGroup();
+        queue.registerWorker(0);
+        try {
+            queue.add(first);
+            queue.add(second);
+            queue.add(third);
+            Assert.assertSame(queue.take(), third);
+            Assert.assertSame(queue.take(), second);
+            Assert.assertSame(queue.take(), first);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            queue.unregisterWorker();
+        }
+    }
+
+    @Test
+    public void testStealFromTheOldestEnd() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+        ItemGroup first = new ItemGroup();
+        ItemGroup second = new ItemGroup();
+        queue.registerWorker(0);
+        try {
+            queue.add(first);
+            queue.add(second);
+        } finally {
+            queue.unregisterWorker();
+        }
+
+        // another worker steals the group that was added first
+        Assert.assertSame(takeAsWorker(queue, 1), first);
+        Assert.assertSame(takeAsWorker(queue, 2), second);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testInjectionQueue() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+        ItemGroup injectedFirst = new ItemGroup();
+        ItemGroup injectedSecond = new ItemGroup();
+        ItemGroup local = new ItemGroup();
+        // groups added by non-scheduler threads go through the injection queue in FIFO order
+        queue.add(injectedFirst);
+        queue.add(injectedSecond);
+        Assert.assertFalse(queue.isEmpty());
+
+        queue.registerWorker(0);
+        try {
+            queue.add(local);
+            // the own deque is looked at before the injection queue
+            Assert.assertSame(queue.take(), local);
+            Assert.assertSame(queue.take(), injectedFirst);
+        } finally {
+            queue.unregisterWorker();
+        }
+        Assert.assertSame(queue.take(), injectedSecond);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test(timeOut = 10000)
+    public void testIdleWorkerIsWokenUp() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+        AtomicReference<ItemGroup> taken = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            queue.registerWorker(1);
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                queue.unregisterWorker();
+            }
+        });
+        worker.start();
+        // let the worker find the queues empty and park
+        Thread.sleep(100);
+        Assert.assertTrue(worker.isAlive());
+
+        ItemGroup group = new ItemGroup();
+        queue.add(group);
+        worker.join(5000);
+        Assert.assertFalse(worker.isAlive());
+        Assert.assertSame(taken.get(), group);
+    }
+
+    @Test(timeOut = 60000)
+    public void testConcurrentAddAndTake() throws Exception {
+        WorkStealingRunQueue queue = new WorkStealingRunQueue(NUM_WORKERS);
+        int injectedGroups = NUM_PRODUCERS * GROUPS_PER_PRODUCER;
+        // each injected group makes the worker that takes it add one more group to its own deque
+        CountDownLatch allTaken = new CountDownLatch(2 * injectedGroups);
+        Map<ItemGroup, AtomicInteger> takeCounts = new ConcurrentHashMap<>();
+        Map<ItemGroup, Boolean> localGroups = new ConcurrentHashMap<>();
+        AtomicInteger poisonPillsTaken = new AtomicInteger();
+
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < NUM_WORKERS; i++) {
+            int workerId = i;
+            workers.add(new Thread(() -> {
+                queue.registerWorker(workerId);
+                try {
+                    while (true) {
+                        ItemGroup group = queue.take();
+                        if (group == POISON_PILL) {
+                            poisonPillsTaken.incrementAndGet();
+                            return;
+                        }
+                        takeCounts.computeIfAbsent(group, g -> new AtomicInteger()).incrementAndGet();
+                        if (!localGroups.containsKey(group)) {
+                            ItemGroup local = new ItemGroup();
+                            localGroups.put(local, Boolean.TRUE);
+                            queue.add(local);
+                        }
+                        allTaken.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    queue.unregisterWorker();
+                }
+            }));
+        }
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < NUM_PRODUCERS; i++) {
+            producers.add(new Thread(() -> {
+                for (int j = 0; j < GROUPS_PER_PRODUCER; j++) {
+                    queue.add(new ItemGroup());
+                }
+            }));
+        }
+        workers.forEach(Thread::start);
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        Assert.assertTrue(allTaken.await(30, TimeUnit.SECONDS), "groups were lost: " + allTaken.getCount());
+        Assert.assertEquals(takeCounts.size(), 2 * injectedGroups);
+        for (AtomicInteger count : takeCounts.values()) {
+            Assert.assertEquals(count.get(), 1, "a group was taken more than once");
+        }
+        Assert.assertTrue(queue.isEmpty());
+
+        // shutdown the same way as the scheduler, with one poison pill per worker
+        for (int i = 0; i < NUM_WORKERS; i++) {
+            queue.add(POISON_PILL);
+        }
+        for (Thread worker : workers) {
+            worker.join(5000);
+            Assert.assertFalse(worker.isAlive());
+        }
+        Assert.assertEquals(poisonPillsTaken.get(), NUM_WORKERS);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    private static ItemGroup takeAsWorker(WorkStealingRunQueue queue, int workerId) throws Exception {
+        AtomicReference<ItemGroup> taken = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            queue.registerWorker(workerId);
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                queue.unregisterWorker();
+            }
+        });
+        worker.start();
+        worker.join(5000);
+        Assert.assertFalse(worker.isAlive());
+        return taken.get();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.CloneUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.IdentityHashMap;
+
+/**
+ * Test cases for {@link CloneRefs}.
+ *
+ * @since 2201.11.0
+ */
+public class CloneRefsTest {
+
+    private static final BString A = StringUtils.fromString("a");
+    private static final BString B = StringUtils.fromString("b");
+
+    @Test
+    public void testAcyclicValueIsCopiedWithoutMap() {
+        MapValueImpl<BString, Object> map = newMap();
+        map.put(A, newArray(1L, newMap()));
+        map.put(B, StringUtils.fromString("x"));
+
+        CloneRefs refs = new CloneRefs();
+        MapValueImpl<?, ?> copy = (MapValueImpl<?, ?>) map.copy(refs);
+        refs.release();
+
+        Assert.assertTrue(refs.isEmpty());
+        Assert.assertNotSame(copy, map);
+        Assert.assertNotSame(copy.get(A), map.get(A));
+        Assert.assertEquals(((ArrayValueImpl) copy.get(A)).get(0), 1L);
+        Assert.assertNotSame(((ArrayValueImpl) copy.get(A)).get(1), ((ArrayValueImpl) map.get(A)).get(1));
+        Assert.assertEquals(copy.get(B), map.get(B));
+    }
+
+    @Test
+    public void testSharedMemberFallsBackToMap() {
+        ArrayValueImpl shared = newArray(1L);
+        MapValueImpl<BString, Object> map = newMap();
+        map.put(A, shared);
+        map.put(B, shared);
+
+        CloneRefs refs = new CloneRefs();
+        Assert.assertThrows(CloneRefs.Revisited.class, () -> map.copy(refs));
+        refs.release();
+
+        MapValueImpl<?, ?> copy = (MapValueImpl<?, ?>) CloneUtils.cloneValue(map);
+        Assert.assertNotSame(copy.get(A), shared);
+        Assert.assertSame(copy.get(A), copy.get(B));
+    }
+
+    @Test
+    public void testCyclicValueIsCopied() {
+        ArrayValueImpl array = newArray(1L);
+        array.add(1, array);
+
+        ArrayValueImpl copy = (ArrayValueImpl) CloneUtils.cloneValue(array);
+        Assert.assertNotSame(copy, array);
+        Assert.assertSame(copy.get(1), copy);
+
+        ArrayValueImpl readOnlyCopy = (ArrayValueImpl) CloneUtils.cloneReadOnly(array);
+        Assert.assertTrue(readOnlyCopy.isFrozen());
+        Assert.assertSame(readOnlyCopy.get(1), readOnlyCopy);
+    }
+
+    @Test
+    public void testValueMarkedByRunningClone() {
+        ArrayValueImpl shared = newArray(1L);
+        MapValueImpl<BString, Object> map = newMap();
+        map.put(A, shared);
+        map.put(B, shared);
+
+        // Marks the map and the shared array, and keeps the marks active.
+        CloneRefs running = new CloneRefs();
+        Assert.assertThrows(CloneRefs.Revisited.class, () -> map.copy(running));
+
+        CloneRefs refs = new CloneRefs();
+        MapValueImpl<?, ?> copy = (MapValueImpl<?, ?>) map.copy(refs);
+        Assert.assertEquals(refs.size(), 2);
+        refs.release();
+        Assert.assertNotSame(copy.get(A), shared);
+        Assert.assertSame(copy.get(A), copy.get(B));
+        running.release();
+
+        // Stale marks are replaced by the next clone.
+        CloneRefs next = new CloneRefs();
+        Assert.assertThrows(CloneRefs.Revisited.class, () -> map.copy(next));
+        next.release();
+        Assert.assertSame(map.cloneMark, next);
+    }
+
+    @Test
+    public void testMapCopyMatchesIdentityMapCopy() {
+        MapValueImpl<BString, Object> map = newMap();
+        map.put(A, newArray(1L, 2L));
+        map.put(B, newMap());
+
+        Object fast = CloneUtils.cloneValue(map);
+        Object slow = map.copy(new IdentityHashMap<>());
+        Assert.assertEquals(fast.toString(), slow.toString());
+    }
+
+    private static MapValueImpl<BString, Object> newMap() {
+        return new MapValueImpl<>(TypeCreator.createMapType(PredefinedTypes.TYPE_ANY));
+    }
+
+    private static ArrayValueImpl newArray(Object... values) {
+        return new ArrayValueImpl(values, TypeCreator.createArrayType(PredefinedTypes.TYPE_ANY));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for the stack trace depth of {@link ErrorValue}.
+ *
+ * @since 2201.11.0
+ */
+public class ErrorValueStackTraceTest {
+
+    @Test
+    public void testDepthIsNotReadOnEachError() {
+        int depth = ErrorValue.getStackTraceDepth();
+        System.setProperty(RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_PROPERTY, String.valueOf(depth + 1));
+        try {
+            createError();
+            Assert.assertEquals(ErrorValue.getStackTraceDepth(), depth);
+        } finally {
+            System.clearProperty(RuntimeConstants.BALLERINA_ERROR_STACK_DEPTH_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testZeroDepth() {
+        String[] frames = getFrames(0);
+        Assert.assertEquals(frames.length, 1);
+    }
+
+    @Test
+    public void testLimitedDepthSkipsConstructionFrames() {
+        String[] fullFrames = getFrames(-1);
+        String[] limitedFrames = getFrames(3);
+        Assert.assertTrue(limitedFrames.length > 1);
+        // Java frames do not count towards the depth, so the first frames are the same as in the complete trace.
+        Assert.assertEquals(limitedFrames[1], fullFrames[1]);
+        Assert.assertTrue(limitedFrames[1].contains("createError"));
+        for (String frame : limitedFrames) {
+            Assert.assertFalse(frame.contains("captureStackTrace"));
+        }
+    }
+
+    private static String[] getFrames(int depth) {
+        int originalDepth = ErrorValue.getStackTraceDepth();
+        ErrorValue.setStackTraceDepth(depth);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            createError().printStackTrace(new PrintStream(out, true, StandardCharsets.UTF_8));
+            return out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        } finally {
+            ErrorValue.setStackTraceDepth(originalDepth);
+        }
+    }
+
+    private static ErrorValue createError() {
+        return new ErrorValue(StringUtils.fromString("message"));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for {@link TableRowIndex}.
+ *
+ * @since 2201.11.0
+ */
+public class TableRowIndexTest {
+
+    @Test
+    public void testIterationOrder() {
+        TableRowIndex<Long, String> rows = new TableRowIndex<>();
+        for (long i = 20; i > 0; i--) {
+            Assert.assertTrue(rows.add(i, "row" + i));
+        }
+        Assert.assertFalse(rows.add(7L, "other"));
+        Assert.assertEquals(rows.put(7L, "replaced"), "row7");
+
+        List<Long> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = rows.nextPosition(0); i >= 0; i = rows.nextPosition(i + 1)) {
+            keys.add(rows.keyAt(i));
+            values.add(rows.valueAt(i));
+        }
+        Assert.assertEquals(rows.size(), 20);
+        Assert.assertEquals((long) keys.get(0), 20L);
+        Assert.assertEquals((long) keys.get(19), 1L);
+        // a replaced row keeps its position
+        Assert.assertEquals((long) keys.get(13), 7L);
+        Assert.assertEquals(values.get(13), "replaced");
+        Assert.assertEquals(rows.getKeys(), keys.toArray());
+        Assert.assertEquals(rows.getValues(), values);
+    }
+
+    @Test
+    public void testRemoveThenReAdd() {
+        TableRowIndex<Long, String> rows = new TableRowIndex<>();
+        for (long i = 0; i < 5; i++) {
+            rows.add(i, "row" + i);
+        }
+        Assert.assertEquals(rows.remove(2L), "row2");
+        Assert.assertNull(rows.remove(2L));
+        Assert.assertFalse(rows.containsKey(2L));
+        Assert.assertNull(rows.get(2L));
+        Assert.assertEquals(rows.size(), 4);
+
+        Assert.assertTrue(rows.add(2L, "again"));
+        Assert.assertEquals(rows.get(2L), "again");
+        Assert.assertEquals(rows.size(), 5);
+        // a row added again goes to the end
+        Assert.assertEquals(rows.getKeys(), new Object[]{0L, 1L, 3L, 4L, 2L});
+        Assert.assertEquals(rows.getValues(), List.of("row0", "row1", "row3", "row4", "again"));
+    }
+
+    @Test
+    public void testCompactionOfRemovedRows() {
+        TableRowIndex<Long, String> rows = new TableRowIndex<>();
+        rows.add(-1L, "first");
+        rows.add(-2L, "second");
+        // every add uses a new position, so the removed rows are squeezed out many times
+        for (long i = 0; i < 10_000; i++) {
+            Assert.assertTrue(rows.add(i, "row" + i));
+            Assert.assertEquals(rows.remove(i), "row" + i);
+            if (i % 1000 == 0) {
+                rows.put(i, "kept" + i);
+            }
+        }
+
+        Assert.assertEquals(rows.size(), 12);
+        List<Object> expectedKeys = new ArrayList<>(List.of(-1L, -2L));
+        for (long i = 0; i < 10_000; i += 1000) {
+            expectedKeys.add(i);
+            Assert.assertEquals(rows.get(i), "kept" + i);
+        }
+        Assert.assertEquals(rows.getKeys(), expectedKeys.toArray());
+        Assert.assertEquals(rows.get(-1L), "first");
+        Assert.assertFalse(rows.containsKey(1L));
+
+        int count = 0;
+        for (int i = rows.nextPosition(0); i >= 0; i = rows.nextPosition(i + 1)) {
+            Assert.assertEquals(rows.keyAt(i), expectedKeys.get(count++));
+        }
+        Assert.assertEquals(count, 12);
+    }
+
+    @Test
+    public void testCollidingHashes() {
+        // both keys hash to 0 once folded into an int
+        long key1 = 0L;
+        long key2 = (1L << 32) | 1L;
+        TableRowIndex<Long, String> rows = new TableRowIndex<>();
+        rows.add(key1, "a");
+        rows.add(key2, "b");
+        Assert.assertEquals(rows.get(key1), "a");
+        Assert.assertEquals(rows.get(key2), "b");
+
+        Assert.assertEquals(rows.remove(key1), "a");
+        Assert.assertFalse(rows.containsKey(key1));
+        Assert.assertEquals(rows.get(key2), "b");
+        Assert.assertTrue(rows.add(key1, "c"));
+        Assert.assertEquals(rows.getKeys(), new Object[]{key2, key1});
+    }
+
+    @Test
+    public void testAppendAndClear() {
+        TableRowIndex<Long, String> rows = new TableRowIndex<>();
+        for (long i = 0; i < 100; i++) {
+            rows.append(i, "row" + i);
+        }
+        Assert.assertEquals(rows.size(), 100);
+        Assert.assertEquals(rows.getValues().get(99), "row99");
+
+        rows.clear();
+        Assert.assertTrue(rows.isEmpty());
+        Assert.assertEquals(rows.nextPosition(0), -1);
+        Assert.assertTrue(rows.add(5L, "row5"));
+        Assert.assertEquals(rows.get(5L), "row5");
+        Assert.assertEquals(rows.getKeys(), new Object[]{5L});
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.scheduling.FrameStack;
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link FrameStack}.
+ *
+ * @since 2201.11.0
+ */
+public class FrameStackTest {
+
+    @Test
+    public void testPushAndPopInLifoOrder() {
+        FrameStack frames = new FrameStack();
+        Assert.assertTrue(frames.isEmpty());
+        TestFrame[] pushed = new TestFrame[20];
+        for (int i = 0; i < pushed.length; i++) {
+            pushed[i] = new TestFrame();
+            frames.push(pushed[i]);
+        }
+        Assert.assertEquals(frames.size(), pushed.length);
+        Assert.assertSame(frames.get(0), pushed[0]);
+        for (int i = pushed.length - 1; i >= 0; i--) {
+            Assert.assertSame(frames.pop(), pushed[i]);
+        }
+        Assert.assertTrue(frames.isEmpty());
+        Assert.assertNull(frames.get(0));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testPopFromEmptyStack() {
+        new FrameStack().pop();
+    }
+
+    @Test
+    public void testGetRecycledOnEmptyStack() {
+        Assert.assertNull(new FrameStack().getRecycled());
+    }
+
+    @Test
+    public void testClearLocals() {
+        TestFrame frame = new TestFrame();
+        frame.yieldLocation = "location";
+        frame.yieldStatus = "status";
+        frame.local = new Object();
+        frame.clearLocals();
+        Assert.assertNull(frame.yieldLocation);
+        Assert.assertNull(frame.yieldStatus);
+        Assert.assertNull(frame.local);
+    }
+
+    private static class TestFrame extends FunctionFrame {
+
+        Object local;
+
+        // same as the method generated for frame classes
+        @Override
+        public void clearLocals() {
+            local = null;
+            super.clearLocals();
+        }
+    }
+}
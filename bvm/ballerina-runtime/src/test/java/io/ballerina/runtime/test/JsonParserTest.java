@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for parsing UTF-8 encoded JSON input with {@link JsonParser}.
+ *
+ * @since 2201.11.0
+ */
+public class JsonParserTest {
+
+    // Size of the byte buffer used when parsing an input stream.
+    private static final int BUFFER_SIZE = 8192;
+
+    @DataProvider
+    public Object[][] multiByteChars() {
+        return new Object[][]{
+                {"é"},
+                {"€"},
+                {"😀"}
+        };
+    }
+
+    @Test(dataProvider = "multiByteChars")
+    public void testCharSplitAcrossBufferBoundary(String ch) {
+        int charLength = ch.getBytes(StandardCharsets.UTF_8).length;
+        for (int shift = 0; shift < charLength; shift++) {
+            // The opening quote and the filler end "shift" bytes into the character at the end of the first buffer.
+            String expected = "a".repeat(BUFFER_SIZE - 1 - shift) + ch + "b";
+            byte[] bytes = ("\"" + expected + "\"").getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(parseStream(new ByteArrayInputStream(bytes)), expected);
+            Assert.assertEquals(parseStream(new TrickleInputStream(bytes)), expected);
+        }
+    }
+
+    @Test
+    public void testFieldNamesAcrossBufferBoundaries() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 2000; i++) {
+            json.append("\"ké€").append(i % 10).append("\":\"😀").append(i).append("\",");
+        }
+        json.append("\"last\":true}");
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(bytes.length > 4 * BUFFER_SIZE);
+
+        Object expected = JsonParser.parse(json.toString(), PredefinedTypes.TYPE_JSON);
+        Object fromStream = JsonParser.parse(new ByteArrayInputStream(bytes), "UTF-8", PredefinedTypes.TYPE_JSON);
+        Object fromBytes = JsonParser.parse(bytes, PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(fromStream.toString(), expected.toString());
+        Assert.assertEquals(fromBytes.toString(), expected.toString());
+        Assert.assertEquals(((BMap<?, ?>) fromBytes).get(StringUtils.fromString("ké€9")).toString(),
+                "😀1999");
+    }
+
+    @DataProvider
+    public Object[][] malformedInput() {
+        return new Object[][]{
+                // lone continuation byte
+                {new byte[]{(byte) 0x80}},
+                // invalid lead bytes
+                {new byte[]{(byte) 0xC0, (byte) 0xAF}},
+                {new byte[]{(byte) 0xF5, (byte) 0x80, (byte) 0x80, (byte) 0x80}},
+                // overlong encodings of '/'
+                {new byte[]{(byte) 0xE0, (byte) 0x80, (byte) 0xAF}},
+                {new byte[]{(byte) 0xF0, (byte) 0x80, (byte) 0x80, (byte) 0xAF}},
+                // encoded lone surrogates
+                {new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0x80}},
+                {new byte[]{(byte) 0xED, (byte) 0xBF, (byte) 0xBF}},
+                // code point beyond U+10FFFF
+                {new byte[]{(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80}},
+                // truncated sequences
+                {new byte[]{(byte) 0xE2, (byte) 0x82}},
+                {new byte[]{(byte) 0xF0, (byte) 0x9F, (byte) 0x98}},
+                {new byte[]{(byte) 0xE2, (byte) 0x82, 'x'}}
+        };
+    }
+
+    @Test(dataProvider = "malformedInput")
+    public void testMalformedInputIsReplaced(byte[] malformed) {
+        for (int prefix : new int[]{0, BUFFER_SIZE - 2, BUFFER_SIZE - 1}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write('"');
+            out.writeBytes("a".repeat(prefix).getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(malformed);
+            out.write('"');
+            byte[] bytes = out.toByteArray();
+            // Malformed sequences are replaced the same way as when decoding through a reader.
+            String decoded = new String(bytes, StandardCharsets.UTF_8);
+            String expected = decoded.substring(1, decoded.length() - 1);
+            Assert.assertTrue(expected.indexOf('�') >= 0);
+
+            Assert.assertEquals(parseStream(new ByteArrayInputStream(bytes)), expected);
+            Assert.assertEquals(parseStream(new TrickleInputStream(bytes)), expected);
+            Assert.assertEquals(((BString) JsonParser.parse(bytes, PredefinedTypes.TYPE_JSON)).getValue(), expected);
+        }
+    }
+
+    @Test
+    public void testParseByteArray() {
+        byte[] bytes = "{\"name\":\"café\", \"values\":[1, 2.5, null]}".getBytes(StandardCharsets.UTF_8);
+        Object value = JsonParser.parse(bytes, PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(value.toString(), "{\"name\":\"café\",\"values\":[1,2.5,null]}");
+    }
+
+    @Test
+    public void testParseHeapByteBuffer() {
+        byte[] bytes = "xx{\"a\":\"€\"}yy".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, bytes.length - 4).slice();
+        Object value = JsonParser.parse(buffer, PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(value.toString(), "{\"a\":\"€\"}");
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testParseDirectByteBuffer() {
+        byte[] bytes = "[\"😀\", true]".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 1);
+        buffer.put(bytes).put((byte) ' ').flip();
+        Object value = JsonParser.parse(buffer, PredefinedTypes.TYPE_JSON);
+        Assert.assertEquals(value.toString(), "[\"😀\",true]");
+        Assert.assertFalse(buffer.hasRemaining());
+    }
+
+    private static String parseStream(InputStream in) {
+        return ((BString) JsonParser.parse(in, "UTF-8", PredefinedTypes.TYPE_JSON)).getValue();
+    }
+
+    /**
+     * Input stream which returns a single byte per read, so that every multi-byte sequence is split between reads.
+     */
+    private static class TrickleInputStream extends ByteArrayInputStream {
+
+        TrickleInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
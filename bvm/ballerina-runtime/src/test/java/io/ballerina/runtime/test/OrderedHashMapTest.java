@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.values.OrderedHashMap;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for {@link OrderedHashMap}.
+ *
+ * @since 2201.11.0
+ */
+public class OrderedHashMapTest {
+
+    @Test
+    public void testInsertionOrderIsKept() {
+        OrderedHashMap<String, Integer> map = new OrderedHashMap<>();
+        List<String> expectedKeys = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            map.put("key" + (49 - i), i);
+            expectedKeys.add("key" + (49 - i));
+        }
+        map.put("key10", 100);
+        Assert.assertEquals(new ArrayList<>(map.keySet()), expectedKeys);
+        Assert.assertEquals(map.get("key10"), Integer.valueOf(100));
+        Assert.assertEquals(map.size(), 50);
+    }
+
+    @Test
+    public void testRemoveAndReinsert() {
+        OrderedHashMap<String, Integer> map = new OrderedHashMap<>(2);
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        for (int i = 0; i < 20; i += 2) {
+            Assert.assertEquals(map.remove("key" + i), Integer.valueOf(i));
+        }
+        Assert.assertNull(map.remove("key0"));
+        map.put("key0", 0);
+
+        List<String> expectedKeys = new ArrayList<>();
+        for (int i = 1; i < 20; i += 2) {
+            expectedKeys.add("key" + i);
+        }
+        expectedKeys.add("key0");
+        Assert.assertEquals(new ArrayList<>(map.keySet()), expectedKeys);
+        Assert.assertFalse(map.containsKey("key2"));
+        Assert.assertTrue(map.containsKey("key0"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        OrderedHashMap<String, Integer> map = new OrderedHashMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put("key" + i, i);
+        }
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            if (entry.getValue() % 2 == 0) {
+                iterator.remove();
+            } else {
+                entry.setValue(entry.getValue() * 10);
+            }
+        }
+        Assert.assertEquals(map.size(), 5);
+        Assert.assertEquals(new ArrayList<>(map.values()), List.of(10, 30, 50, 70, 90));
+    }
+
+    @Test
+    public void testConsistencyWithLinkedHashMap() {
+        Random random = new Random(7);
+        OrderedHashMap<String, Integer> map = new OrderedHashMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            String key = random.nextInt(10) == 0 ? null : "key" + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(map.remove(key), expected.remove(key));
+            } else {
+                Assert.assertEquals(map.put(key, i), expected.put(key, i));
+            }
+        }
+        Assert.assertEquals(map, expected);
+        Assert.assertEquals(new ArrayList<>(map.entrySet()), new ArrayList<>(expected.entrySet()));
+    }
+}
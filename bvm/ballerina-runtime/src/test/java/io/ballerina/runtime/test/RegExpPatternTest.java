@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
+import io.ballerina.runtime.internal.values.RegExpValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for the compiled patterns of {@link RegExpValue}.
+ *
+ * @since 2201.11.0
+ */
+public class RegExpPatternTest {
+
+    @Test
+    public void testPatternPerFlags() {
+        RegExpValue regExp = RegExpFactory.parse("[a-z]+\\d");
+        Pattern pattern = regExp.getPattern(0);
+        Pattern unicodePattern = regExp.getPattern(Pattern.UNICODE_CHARACTER_CLASS);
+        Assert.assertEquals(pattern.flags(), 0);
+        Assert.assertEquals(unicodePattern.flags() & Pattern.UNICODE_CHARACTER_CLASS, Pattern.UNICODE_CHARACTER_CLASS);
+        // alternating between the flags does not compile the patterns again
+        for (int i = 0; i < 3; i++) {
+            Assert.assertSame(regExp.getPattern(0), pattern);
+            Assert.assertSame(regExp.getPattern(Pattern.UNICODE_CHARACTER_CLASS), unicodePattern);
+        }
+        Assert.assertTrue(pattern.matcher("abc1").matches());
+    }
+
+    @Test
+    public void testPatternSharedByEqualRegExps() {
+        Pattern pattern = RegExpFactory.parse("x(y|z)*").getPattern(0);
+        Assert.assertSame(RegExpFactory.parse("x(y|z)*").getPattern(0), pattern);
+    }
+
+    @Test
+    public void testRecentlyUsedPatternIsKept() {
+        Pattern hotPattern = RegExpFactory.parse("hot").getPattern(0);
+        Pattern firstColdPattern = RegExpFactory.parse("cold0").getPattern(0);
+        for (int i = 1; i < 1000; i++) {
+            RegExpFactory.parse("cold" + i).getPattern(0);
+            Assert.assertSame(RegExpFactory.parse("hot").getPattern(0), hotPattern);
+        }
+        // the least recently used patterns are evicted one at a time, instead of dropping all of them
+        Assert.assertNotSame(RegExpFactory.parse("cold0").getPattern(0), firstColdPattern);
+        Pattern lastColdPattern = RegExpFactory.parse("cold999").getPattern(0);
+        Assert.assertSame(RegExpFactory.parse("cold999").getPattern(0), lastColdPattern);
+    }
+}
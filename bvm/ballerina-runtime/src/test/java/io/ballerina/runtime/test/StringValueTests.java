@@ -1,5 +1,8 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.BmpStringValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +43,107 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testNonBmpOffsetMapping() {
+        NonBmpStringValue str = (NonBmpStringValue) SUBJECT;
+        String value = str.getValue();
+        int charOffset = 0;
+        for (int i = 0; i <= str.length(); i++) {
+            Assert.assertEquals(str.getCharOffset(i), charOffset);
+            Assert.assertEquals(str.getCodePointIndex(charOffset), i);
+            if (i < str.length()) {
+                charOffset += Character.charCount(value.codePointAt(charOffset));
+            }
+        }
+    }
+
+    @Test
+    void testConcatInLoop() {
+        BString str = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            str = str.concat(StringUtils.fromString("abc" + i));
+            expected.append("abc").append(i);
+        }
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.length(), expected.length());
+    }
+
+    @Test
+    void testConcatFromIntermediateValue() {
+        BString base = StringUtils.fromString("x".repeat(300));
+        BString first = base.concat(StringUtils.fromString("first"));
+        BString second = base.concat(StringUtils.fromString("second"));
+        BString third = first.concat(StringUtils.fromString("third"));
+        Assert.assertEquals(first.getValue(), "x".repeat(300) + "first");
+        Assert.assertEquals(second.getValue(), "x".repeat(300) + "second");
+        Assert.assertEquals(third.getValue(), "x".repeat(300) + "firstthird");
+        Assert.assertEquals(base.getValue(), "x".repeat(300));
+    }
+
+    @Test
+    void testConcatAfterFlattening() {
+        BString str = StringUtils.fromString("x".repeat(300));
+        StringBuilder expected = new StringBuilder("x".repeat(300));
+        BString previous = str;
+        for (int i = 0; i < 100; i++) {
+            str = str.concat(StringUtils.fromString("abc" + i));
+            expected.append("abc").append(i);
+            Assert.assertEquals(str.getValue(), expected.toString());
+            Assert.assertEquals(previous.concat(StringUtils.fromString("y")).getValue(),
+                    previous.getValue() + "y");
+            previous = str;
+        }
+        Assert.assertEquals(str.length(), expected.length());
+    }
+
+    @Test
+    void testNonBmpConcatInLoop() {
+        BString str = StringUtils.fromString("a".repeat(300));
+        StringBuilder expected = new StringBuilder("a".repeat(300));
+        for (int i = 0; i < 100; i++) {
+            str = str.concat(SUBJECT).concat(StringUtils.fromString("b"));
+            expected.append(UNICODE_STR).append("b");
+        }
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.length(), 300 + 100 * 17);
+        Assert.assertEquals(str.getCodePoint(301), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(300 + 99 * 17 + 14), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(300 + 100 * 17 - 1), 'b');
+        Assert.assertEquals(((NonBmpStringValue) str).getSurrogates().length, 200);
+    }
+
+    @Test
+    void testConcatThenReadInLoop() {
+        BString str = StringUtils.fromString("a".repeat(300));
+        StringBuilder expected = new StringBuilder("a".repeat(300));
+        for (int i = 0; i < 100; i++) {
+            str = str.concat(StringUtils.fromString("b" + i));
+            expected.append("b").append(i);
+            Assert.assertEquals(str.getValue(), expected.toString());
+            // Reading a value does not stop it from appending in place
+            Assert.assertEquals(str.getClass().getSimpleName(), "BufferedBmpStringValue");
+        }
+        Assert.assertEquals(str.length(), expected.length());
+    }
+
+    @Test
+    void testConcatFromReadValue() {
+        BString str = StringUtils.fromString("a".repeat(300)).concat(StringUtils.fromString("b"));
+        BString appended = str.concat(StringUtils.fromString("c"));
+        Assert.assertEquals(str.getValue(), "a".repeat(300) + "b");
+        // The buffer of str already ends with "c", hence str is concatenated eagerly as it has been read
+        BString branched = str.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(branched.getClass(), BmpStringValue.class);
+        Assert.assertEquals(branched.getValue(), "a".repeat(300) + "bd");
+        Assert.assertEquals(appended.getValue(), "a".repeat(300) + "bc");
+
+        BString unread = StringUtils.fromString("a".repeat(300)).concat(SUBJECT);
+        unread.concat(StringUtils.fromString("c"));
+        BString copied = unread.concat(SUBJECT);
+        Assert.assertEquals(copied.getClass().getSimpleName(), "BufferedNonBmpStringValue");
+        Assert.assertEquals(copied.getValue(), "a".repeat(300) + UNICODE_STR + UNICODE_STR);
+        Assert.assertEquals(copied.length(), 300 + 2 * 16);
+        Assert.assertEquals(((NonBmpStringValue) copied).getSurrogates().length, 4);
+    }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.flags.TypeFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BIterator;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for the row index and secondary indexes of tables.
+ *
+ * @since 2201.11.0
+ */
+public class TableIndexTest {
+
+    private static final Module ROOT_MODULE = new Module("rootOrg", "test_module", "1");
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString STATUS = StringUtils.fromString("status");
+    private static final BString SCORE = StringUtils.fromString("score");
+    private static final BString NAME = StringUtils.fromString("name");
+
+    private static final RecordType RECORD_TYPE = createRecordType();
+    private static final TableType TABLE_TYPE = TypeCreator.createTableType(RECORD_TYPE, new String[]{"id"}, false);
+
+    @Test
+    public void testHashIndexLookup() {
+        TableValueImpl<Long, BMap<BString, Object>> table = createTable(6);
+        table.addIndex(STATUS, false);
+        Assert.assertTrue(table.hasIndex(STATUS));
+        Assert.assertFalse(table.hasIndex(SCORE));
+
+        table.add(createRow(6, "OPEN", 6));
+        table.remove(2L);
+        table.put(4L, createRow(4, "CLOSED", 4));
+
+        Assert.assertEquals(getIds(table.getIndexedRows(STATUS, "==", StringUtils.fromString("OPEN"))),
+                List.of(0L, 6L));
+        Assert.assertEquals(getIds(table.getIndexedRows(STATUS, "==", StringUtils.fromString("CLOSED"))),
+                List.of(1L, 3L, 4L, 5L));
+        Assert.assertTrue(table.getIndexedRows(STATUS, "==", StringUtils.fromString("NEW")).isEmpty());
+        // range lookups are not supported by hash indexes
+        Assert.assertSame(table.getIndexedRows(STATUS, "<", StringUtils.fromString("OPEN")), table);
+        // fields without an index fall back to the table itself
+        Assert.assertSame(table.getIndexedRows(SCORE, "==", 1L), table);
+    }
+
+    @Test
+    public void testSortedIndexLookup() {
+        TableValueImpl<Long, BMap<BString, Object>> table = createTable(10);
+        table.addIndex(SCORE, true);
+
+        Assert.assertEquals(getIds(table.getIndexedRows(SCORE, ">=", 7L)), List.of(7L, 8L, 9L));
+        Assert.assertEquals(getIds(table.getIndexedRows(SCORE, ">", 7L)), List.of(8L, 9L));
+        Assert.assertEquals(getIds(table.getIndexedRows(SCORE, "<", 2L)), List.of(0L, 1L));
+        Assert.assertEquals(getIds(table.getIndexedRows(SCORE, "<=", 2L)), List.of(0L, 1L, 2L));
+        Assert.assertEquals(getIds(table.getIndexedRows(SCORE, "==", 5L)), List.of(5L));
+
+        table.clear();
+        Assert.assertTrue(table.getIndexedRows(SCORE, ">=", 0L).isEmpty());
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*cannot index field 'name': the field is not readonly.*")
+    public void testNonReadonlyFieldIndex() {
+        createTable(1).addIndex(NAME, false);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*cannot index field 'id': the field is part of the key sequence.*")
+    public void testKeyFieldIndex() {
+        createTable(1).addIndex(ID, true);
+    }
+
+    @Test
+    public void testAddDuringIterationAfterRemove() {
+        TableValueImpl<Long, BMap<BString, Object>> table = createTable(8);
+        BIterator<?> iterator = table.getIterator();
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(((BArray) iterator.next()).get(0));
+        }
+        table.remove(1L);
+        table.remove(5L);
+        // the rows are full, hence adding moves the rows to squeeze out the removed ones
+        table.add(createRow(8, "OPEN", 8));
+        table.add(createRow(9, "OPEN", 9));
+        while (iterator.hasNext()) {
+            ids.add(((BArray) iterator.next()).get(0));
+        }
+        Assert.assertEquals(ids, List.of(0L, 1L, 2L, 3L, 4L, 6L, 7L, 8L, 9L));
+    }
+
+    @Test
+    public void testIterationAfterRemovingLastReturnedRow() {
+        TableValueImpl<Long, BMap<BString, Object>> table = createTable(8);
+        BIterator<?> iterator = table.getIterator();
+        iterator.next();
+        iterator.next();
+        table.remove(1L);
+        table.add(createRow(8, "OPEN", 8));
+        List<Object> ids = new ArrayList<>();
+        while (iterator.hasNext()) {
+            ids.add(((BArray) iterator.next()).get(0));
+        }
+        Assert.assertEquals(ids, List.of(2L, 3L, 4L, 5L, 6L, 7L, 8L));
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    private static RecordType createRecordType() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        long readonlyFlags = SymbolFlags.REQUIRED | SymbolFlags.READONLY;
+        fields.put("id", TypeCreator.createField(PredefinedTypes.TYPE_INT, "id", readonlyFlags));
+        fields.put("status", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "status", readonlyFlags));
+        fields.put("score", TypeCreator.createField(PredefinedTypes.TYPE_INT, "score", readonlyFlags));
+        fields.put("name", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED));
+        return TypeCreator.createRecordType("Row", ROOT_MODULE, 0, fields, null, true,
+                TypeFlags.asMask(TypeFlags.ANYDATA, TypeFlags.PURETYPE));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TableValueImpl<Long, BMap<BString, Object>> createTable(int size) {
+        TableValueImpl<Long, BMap<BString, Object>> table =
+                (TableValueImpl<Long, BMap<BString, Object>>) ValueCreator.createTableValue(TABLE_TYPE);
+        for (int i = 0; i < size; i++) {
+            table.add(createRow(i, i % 2 == 0 ? "OPEN" : "CLOSED", i));
+        }
+        return table;
+    }
+
+    private static BMap<BString, Object> createRow(long id, String status, long score) {
+        return ValueCreator.createRecordValue(RECORD_TYPE, new BMapInitialValueEntry[]{
+                ValueCreator.createKeyFieldEntry(ID, id),
+                ValueCreator.createKeyFieldEntry(STATUS, StringUtils.fromString(status)),
+                ValueCreator.createKeyFieldEntry(SCORE, score),
+                ValueCreator.createKeyFieldEntry(NAME, StringUtils.fromString("row" + id))});
+    }
+
+    private static List<Long> getIds(TableValueImpl<Long, BMap<BString, Object>> table) {
+        List<Long> ids = new ArrayList<>();
+        for (BMap<BString, Object> row : table.values()) {
+            ids.add((Long) row.get(ID));
+        }
+        return ids;
+    }
+}
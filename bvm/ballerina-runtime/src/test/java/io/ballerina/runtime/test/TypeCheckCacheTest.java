@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ *
+ * @since 2201.11.0
+ */
+public class TypeCheckCacheTest {
+
+    @Test
+    public void testRepeatedTypeChecksAreCached() {
+        Type sourceType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_BOOLEAN));
+        Type targetType = PredefinedTypes.TYPE_ANYDATA;
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        long hits = TypeCheckCache.getHitCount();
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        }
+        Assert.assertTrue(TypeCheckCache.getHitCount() >= hits + 10);
+    }
+
+    @Test
+    public void testNegativeResultsAreCached() {
+        Type sourceType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING);
+        Type targetType = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        Assert.assertTrue(TypeChecker.checkIsType(PredefinedTypes.TYPE_INT, sourceType));
+    }
+
+    @Test
+    public void testMutatedTypesAreRechecked() {
+        BUnionType sourceType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        Type targetType = TypeCreator.createUnionType(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING,
+                PredefinedTypes.TYPE_BOOLEAN);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        sourceType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_FLOAT});
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+    }
+
+    @Test
+    public void testMutatedMemberTypesAreRechecked() {
+        BRecordType recordType = new BRecordType("Rec", null, 0, new HashMap<>(), PredefinedTypes.TYPE_INT,
+                false, 0);
+        Type sourceType = TypeCreator.createArrayType(recordType);
+        Type targetType = TypeCreator.createArrayType(TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+        recordType.setRestFieldType(PredefinedTypes.TYPE_STRING);
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, targetType));
+        recordType.setRestFieldType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, targetType));
+    }
+}
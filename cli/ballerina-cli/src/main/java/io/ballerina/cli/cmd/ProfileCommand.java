@@ -94,6 +94,11 @@ public class ProfileCommand implements BLauncherCmd {
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
 
+    @CommandLine.Option(names = "--sampling-interval", hidden = true,
+            description = "experimental sampling mode which samples the call stacks in the given interval in " +
+                    "milliseconds instead of instrumenting the functions")
+    private Long samplingInterval;
+
     private static final String PROFILE_CMD = "bal profile [--debug <port>] [<ballerina-file | package-path>]\n ";
 
     public ProfileCommand() {
@@ -202,7 +207,7 @@ public class ProfileCommand implements BLauncherCmd {
                         buildOptions.enableCache()))
                 .addTask(new CreateExecutableTask(outStream, null, null, false), false)
                 .addTask(new DumpBuildTimeTask(outStream), false)
-                .addTask(new RunProfilerTask(errStream), false).build();
+                .addTask(new RunProfilerTask(errStream, samplingInterval), false).build();
     }
 
     @Override
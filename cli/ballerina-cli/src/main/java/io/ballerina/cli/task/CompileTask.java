@@ -21,6 +21,7 @@ package io.ballerina.cli.task;
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.projects.CodeGeneratorResult;
 import io.ballerina.projects.CodeModifierResult;
+import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.PackageCompilation;
@@ -35,6 +36,7 @@ import io.ballerina.projects.directory.SingleFileProject;
 import io.ballerina.projects.environment.ResolutionOptions;
 import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.projects.internal.ProjectDiagnosticErrorCode;
+import io.ballerina.projects.repos.BuildProjectCompilationCache;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
@@ -227,6 +229,11 @@ public class CompileTask implements Task {
             PackageCompilation packageCompilation = project.currentPackage().getCompilation();
             if (project.buildOptions().dumpBuildTime()) {
                 BuildTime.getInstance().packageCompilationDuration = System.currentTimeMillis() - start;
+                if (project.projectEnvironmentContext().getService(CompilationCache.class)
+                        instanceof BuildProjectCompilationCache compilationCache) {
+                    BuildTime.getInstance().moduleCacheHits = compilationCache.moduleCacheHits();
+                    BuildTime.getInstance().moduleCacheMisses = compilationCache.moduleCacheMisses();
+                }
                 start = System.currentTimeMillis();
             }
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_17);
@@ -34,6 +34,8 @@ public class BuildTime {
     public long codeGeneratorPluginDuration;
     public long codeModifierPluginDuration;
     public long packageCompilationDuration;
+    public int moduleCacheHits;
+    public int moduleCacheMisses;
     public long codeGenDuration;
     public long emitArtifactDuration;
     public long testingExecutionDuration;
@@ -105,6 +105,23 @@ public class ProfileCommandTest extends BaseCommandTest {
         ProjectUtils.deleteDirectory(projectPath.resolve("target"));
     }
 
+    @Test(description = "Profile a ballerina project in the sampling mode")
+    public void testRunBalProjectWithSamplingProfiler() throws IOException {
+        Path projectPath = this.testResources.resolve("projectForProfile/package_a");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+
+        ProfileCommand profileCommand = new ProfileCommand(projectPath, printStream, false);
+        new CommandLine(profileCommand).parseArgs("--sampling-interval", "1");
+        profileCommand.execute();
+        String buildLog = readOutput(true).replaceAll("\r", "").replaceAll("\\\\", "/").strip();
+        Assert.assertEquals(buildLog, getOutput("run-project-with-profile.txt"));
+        Assert.assertTrue(projectPath.resolve("target/profiler/ProfilerReport.html").toFile().exists());
+        ProjectUtils.deleteDirectory(projectPath.resolve("target"));
+    }
+
     @Test(description = "Profile a ballerina project with build tools")
     public void testRunBalProjectWithProfileFlagWithBuildTools() throws IOException {
         Path projectPath = this.testResources.resolve("projectForProfile/package_b");
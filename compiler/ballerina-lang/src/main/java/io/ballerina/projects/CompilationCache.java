@@ -42,4 +42,25 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Checks whether the cached BIR and platform libraries of the given module can be used in place of compiling
+     * the module. Caches that do not track module cache keys consider a module cached if its BIR is available.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   key derived from the current inputs of the module
+     * @return true if the cached artifacts of the module are up-to-date
+     */
+    public boolean isModuleCached(ModuleName moduleName, String cacheKey) {
+        return getBir(moduleName).length != 0;
+    }
+
+    /**
+     * Records the key of the inputs from which the cached artifacts of the given module were generated.
+     *
+     * @param moduleName name of the module
+     * @param cacheKey   key derived from the inputs of the module
+     */
+    public void cacheModuleKey(ModuleName moduleName, String cacheKey) {
+    }
 }
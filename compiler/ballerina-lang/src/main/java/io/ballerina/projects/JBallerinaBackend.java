@@ -44,17 +44,22 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -62,6 +67,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -92,6 +98,8 @@ public class JBallerinaBackend extends CompilerBackend {
     private static final String JAR_FILE_EXTENSION = ".jar";
     private static final String TEST_JAR_FILE_NAME_SUFFIX = "-testable";
     private static final String JAR_FILE_NAME_SUFFIX = "";
+    private static final String EXECUTABLE_CACHE_DIR_NAME = "executable";
+    private static final String CACHE_KEY_FILE_EXTENSION = ".key";
     private static final HashSet<String> excludeExtensions = new HashSet<>(Lists.of("DSA", "SF"));
     private static final String OS = System.getProperty("os.name").toLowerCase(Locale.getDefault());
     public static final String JAR_NAME_SEPARATOR = "-";
@@ -588,20 +596,15 @@ public class JBallerinaBackend extends CompilerBackend {
                         s = new StringBuilder();
                         services.put(entryName, s);
                     }
-                    char c = '\n';
-
-                    int len;
-                    try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                        while ((len = inStream.read()) != -1) {
-                            c = (char) len;
-                            s.append(c);
+                    try (InputStream inStream = zipFile.getInputStream(entry)) {
+                        String serviceProviders = new String(inStream.readAllBytes(), StandardCharsets.UTF_8);
+                        s.append(serviceProviders);
+                        if (!serviceProviders.isEmpty() && !serviceProviders.endsWith("\n")) {
+                            s.append('\n');
                         }
                     } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
-                    if (c != '\n') {
-                        s.append('\n');
-                    }
 
                     // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
                     // separately. Therefore the predicate should be set as false.
@@ -656,7 +659,7 @@ public class JBallerinaBackend extends CompilerBackend {
         // Add warning when provided platform dependencies are found
         addProvidedDependencyWarning(emitResultDiagnostics);
         try {
-            assembleExecutableJar(executableFilePath, manifest, jarLibraries);
+            emitExecutableJar(executableFilePath, manifest, jarLibraries);
         } catch (IOException e) {
             throw new ProjectException("error while creating the executable jar file for package '" +
                     this.packageContext.packageName().toString() + "' : " + e.getMessage(), e);
@@ -664,6 +667,66 @@ public class JBallerinaBackend extends CompilerBackend {
         return executableFilePath;
     }
 
+    /**
+     * Assembles the executable jar, or reuses the executable assembled by a previous build of a build project if
+     * caches are enabled and the content of the jars that make up the executable has not changed since then.
+     */
+    private void emitExecutableJar(Path executableFilePath, Manifest manifest, Collection<JarLibrary> jarLibraries)
+            throws IOException {
+        Project project = packageContext.project();
+        if (project.kind() != ProjectKind.BUILD_PROJECT || !project.buildOptions().enableCache()) {
+            assembleExecutableJar(executableFilePath, manifest, jarLibraries);
+            return;
+        }
+
+        Path cacheDirPath = project.targetDir().resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve(EXECUTABLE_CACHE_DIR_NAME);
+        Path cachedExecutablePath = cacheDirPath.resolve(executableFilePath.getFileName());
+        Path cacheKeyPath = cacheDirPath.resolve(executableFilePath.getFileName() + CACHE_KEY_FILE_EXTENSION);
+        String cacheKey = getExecutableCacheKey(manifest, jarLibraries);
+        if (Files.exists(cachedExecutablePath) && Files.exists(cacheKeyPath)
+                && cacheKey.equals(Files.readString(cacheKeyPath, StandardCharsets.UTF_8))) {
+            Files.copy(cachedExecutablePath, executableFilePath, StandardCopyOption.REPLACE_EXISTING);
+            return;
+        }
+
+        assembleExecutableJar(executableFilePath, manifest, jarLibraries);
+        Files.deleteIfExists(cacheKeyPath);
+        // Conflicting jar entries are detected while assembling the executable, hence such executables are not reused
+        if (conflictedJars.isEmpty()) {
+            Files.createDirectories(cacheDirPath);
+            Files.copy(executableFilePath, cachedExecutablePath, StandardCopyOption.REPLACE_EXISTING);
+            Files.writeString(cacheKeyPath, cacheKey, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String getExecutableCacheKey(Manifest manifest, Collection<JarLibrary> jarLibraries)
+            throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest is not available", e);
+        }
+        ByteArrayOutputStream manifestContent = new ByteArrayOutputStream();
+        manifest.write(manifestContent);
+        digest.update(manifestContent.toByteArray());
+
+        // The content of the jars is used rather than their timestamps, as a jar may be rewritten with the same
+        // content, e.g. when a module is compiled again, or replaced without changing its timestamp.
+        List<Path> jarPaths = jarLibraries.stream().map(JarLibrary::path).sorted().toList();
+        try (DigestOutputStream digestStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            for (Path jarPath : jarPaths) {
+                digest.update(jarPath.toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                try (InputStream jarStream = Files.newInputStream(jarPath)) {
+                    jarStream.transferTo(digestStream);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
     private Path emitTestExecutable(Path executableFilePath, HashSet<JarLibrary> jarDependencies,
                           Path testSuiteJsonPath, String jsonCopyPath, List<String> excludedClasses,
                           String classPathTextCopyPath) {
@@ -42,20 +42,30 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Supplier;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -89,6 +99,7 @@ class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    private String cacheKey;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -268,7 +279,8 @@ class ModuleContext {
         if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
-                && !this.project.buildOptions().enableCache()) {
+                && (!this.project.buildOptions().enableCache()
+                || !compilationCache.isModuleCached(moduleDescriptor.name(), cacheKey()))) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
@@ -311,6 +323,125 @@ class ModuleContext {
         }
 
         this.moduleDependencies = Collections.unmodifiableSet(moduleDependencies);
+        this.cacheKey = null;
+    }
+
+    /**
+     * Returns the key of the cached BIR and the platform libraries of this module.
+     * <p>
+     * The key is derived from the compiler version, the compilation options that affect the generated code,
+     * the source and test documents of this module, the platform dependencies of the package and the keys of the
+     * modules it depends on. Modules of other packages are identified by their resolved versions, since a published
+     * package version does not change.
+     *
+     * @return the hex encoded SHA-256 digest of the module inputs
+     */
+    String cacheKey() {
+        if (cacheKey != null) {
+            return cacheKey;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 message digest is not available", e);
+        }
+        BuildOptions buildOptions = project.buildOptions();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.moduleCompilationId().toString());
+        updateDigest(digest, String.valueOf(buildOptions.observabilityIncluded()));
+        updateDigest(digest, String.valueOf(buildOptions.remoteManagement()));
+        updateDigest(digest, String.valueOf(buildOptions.skipTests()));
+        updateDigest(digest, String.valueOf(buildOptions.cloud()));
+        for (DocumentContext docContext : srcDocContextMap.values()) {
+            updateDigest(digest, docContext.name());
+            updateDigest(digest, docContext.textDocument().toString());
+        }
+        for (DocumentContext docContext : testDocContextMap.values()) {
+            updateDigest(digest, docContext.name());
+            updateDigest(digest, docContext.textDocument().toString());
+        }
+
+        Package currentPackage = project.currentPackage();
+        if (currentPackage.packageId().equals(moduleId.packageId())) {
+            // Interop calls of any module are resolved against the platform libraries of the package
+            updatePlatformDependencyDigest(digest, currentPackage.manifest());
+        }
+        if (isDefaultModule && currentPackage.packageId().equals(moduleId.packageId())) {
+            // Package resources are bundled when the default module is compiled
+            PackageContext packageContext = currentPackage.packageContext();
+            for (DocumentId resourceId : packageContext.resourceIds()) {
+                updateDigest(digest, packageContext.resourceContext(resourceId).name());
+                digest.update(packageContext.resourceContext(resourceId).content());
+            }
+            for (DocumentId resourceId : packageContext.testResourceIds()) {
+                updateDigest(digest, packageContext.resourceContext(resourceId).name());
+                digest.update(packageContext.resourceContext(resourceId).content());
+            }
+        }
+
+        List<String> dependencyKeys = new ArrayList<>();
+        for (ModuleDependency moduleDependency : dependencies()) {
+            ModuleDescriptor dependencyDesc = moduleDependency.descriptor();
+            ModuleContext dependencyContext = null;
+            if (moduleDependency.packageDependency().packageId().equals(moduleId.packageId())) {
+                dependencyContext = currentPackage.packageContext().moduleContext(dependencyDesc.name());
+            }
+            dependencyKeys.add(dependencyContext != null ? dependencyContext.cacheKey() :
+                    dependencyDesc.moduleCompilationId().toString() + ":" + dependencyDesc.version());
+        }
+        Collections.sort(dependencyKeys);
+        for (String dependencyKey : dependencyKeys) {
+            updateDigest(digest, dependencyKey);
+        }
+
+        cacheKey = HexFormat.of().formatHex(digest.digest());
+        return cacheKey;
+    }
+
+    private void updatePlatformDependencyDigest(MessageDigest digest, PackageManifest manifest) {
+        for (Map.Entry<String, PackageManifest.Platform> platform : new TreeMap<>(manifest.platforms()).entrySet()) {
+            if (platform.getValue() == null) {
+                continue;
+            }
+            updateDigest(digest, platform.getKey());
+            for (Map<String, Object> dependency : platform.getValue().dependencies()) {
+                for (Map.Entry<String, Object> entry : new TreeMap<>(dependency).entrySet()) {
+                    updateDigest(digest, entry.getKey());
+                    updateDigest(digest, String.valueOf(entry.getValue()));
+                }
+                // The same path may refer to a different jar in a later build, hence the content is used as well.
+                // The path of a Maven dependency is only set by the code generation, after the key is computed.
+                if (dependency.get(JarLibrary.KEY_PATH) instanceof String path && !path.isEmpty()) {
+                    Path jarPath = Path.of(path);
+                    if (!jarPath.isAbsolute()) {
+                        jarPath = project.sourceRoot().resolve(jarPath);
+                    }
+                    updateFileDigest(digest, jarPath);
+                }
+            }
+        }
+    }
+
+    private static void updateFileDigest(MessageDigest digest, Path path) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            // A missing platform library is reported by the code generation, only its absence is recorded here
+            digest.update((byte) 1);
+        }
+        digest.update((byte) 0);
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        // Separate the consecutive values so that the boundaries between them are part of the digest
+        digest.update((byte) 0);
     }
 
     private void addModuleDependency(PackageOrg org,
@@ -466,6 +597,10 @@ class ModuleContext {
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
         moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        if (moduleContext.project.kind() == ProjectKind.BUILD_PROJECT
+                && moduleContext.project.buildOptions().enableCache()) {
+            moduleContext.compilationCache.cacheModuleKey(moduleContext.moduleName(), moduleContext.cacheKey());
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -243,9 +243,12 @@ public class Target {
      * Clean any files that created from the build.
      */
     public void clean(boolean isModified, boolean cacheEnabled) {
-        if (isModified || !cacheEnabled) {
+        if (!cacheEnabled) {
             // Remove from cache
             ProjectUtils.deleteDirectory(this.cache);
+        } else if (isModified) {
+            // Cached modules are validated against their cache keys, hence only the tests cache is removed
+            ProjectUtils.deleteDirectory(this.testsCachePath);
         }
 
         // Remove any generated bala
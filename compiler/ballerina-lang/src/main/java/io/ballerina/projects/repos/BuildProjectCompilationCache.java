@@ -24,9 +24,12 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.util.ProjectConstants;
 import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
 
@@ -37,7 +40,10 @@ import static io.ballerina.projects.util.ProjectConstants.CACHES_DIR_NAME;
  */
 public class BuildProjectCompilationCache extends FileSystemCache {
     private Path birPath;
+    private int moduleCacheHits;
+    private int moduleCacheMisses;
     private static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+    private static final String CACHE_KEY_FILE_EXT = ".key";
 
     private BuildProjectCompilationCache(Project project, Path cacheDirPath) {
         super(project, cacheDirPath.resolve(CACHES_DIR_NAME));
@@ -62,6 +68,70 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        // Unlike the repository caches, the BIR of a build project module is replaced whenever the module is
+        // recompiled. The module key is removed first so that a partially updated cache is never considered valid.
+        Path birDirPath = getBirPath();
+        Path birFilePath = birDirPath.resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            Files.deleteIfExists(getCacheKeyFilePath(moduleName));
+            Files.createDirectories(birDirPath);
+            Path tempBirFile = Files.createTempFile(birDirPath, moduleName.toString(), ".tmp");
+            Files.write(tempBirFile, birContent.toByteArray());
+            Files.move(tempBirFile, birFilePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public boolean isModuleCached(ModuleName moduleName, String cacheKey) {
+        Path cacheKeyFilePath = getCacheKeyFilePath(moduleName);
+        try {
+            if (Files.exists(cacheKeyFilePath)
+                    && cacheKey.equals(Files.readString(cacheKeyFilePath, StandardCharsets.UTF_8))) {
+                moduleCacheHits++;
+                return true;
+            }
+        } catch (IOException e) {
+            // Treat an unreadable key as a cache miss and recompile the module
+        }
+        moduleCacheMisses++;
+        return false;
+    }
+
+    @Override
+    public void cacheModuleKey(ModuleName moduleName, String cacheKey) {
+        try {
+            Files.writeString(getCacheKeyFilePath(moduleName), cacheKey, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache the key of module: " + moduleName, e);
+        }
+    }
+
+    /**
+     * Returns the number of modules that were loaded from the cache instead of being compiled.
+     *
+     * @return number of module cache hits
+     */
+    public int moduleCacheHits() {
+        return moduleCacheHits;
+    }
+
+    /**
+     * Returns the number of cached modules that had to be recompiled since their inputs have changed.
+     *
+     * @return number of module cache misses
+     */
+    public int moduleCacheMisses() {
+        return moduleCacheMisses;
+    }
+
+    private Path getCacheKeyFilePath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + CACHE_KEY_FILE_EXT);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
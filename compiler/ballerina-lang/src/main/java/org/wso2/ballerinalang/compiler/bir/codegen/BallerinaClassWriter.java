@@ -20,6 +20,11 @@ package org.wso2.ballerinalang.compiler.bir.codegen;
 
 import org.objectweb.asm.ClassWriter;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Class Writer for generating ballerina classes.
  * <p>
@@ -29,6 +34,11 @@ public class BallerinaClassWriter extends ClassWriter {
 
     private static final String OBJECT_CLASS = "java/lang/Object";
 
+    // Classes available to the compiler class loader are shared by all the class writers, whereas the generated
+    // classes that cannot be loaded are only remembered for the class being written.
+    private static final Map<String, Class<?>> LOADED_CLASSES = new ConcurrentHashMap<>();
+    private final Set<String> unresolvedTypes = new HashSet<>();
+
     public BallerinaClassWriter(int flags) {
         super(flags);
     }
@@ -40,20 +50,13 @@ public class BallerinaClassWriter extends ClassWriter {
      */
     @Override
     protected String getCommonSuperClass(String type1, String type2) {
-
-        ClassLoader classLoader = getClassLoader();
-        Class<?> class1;
-
-        try {
-            class1 = Class.forName(type1.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Class<?> class1 = loadClass(type1);
+        if (class1 == null) {
             return OBJECT_CLASS;
         }
 
-        Class<?> class2;
-        try {
-            class2 = Class.forName(type2.replace('/', '.'), false, classLoader);
-        } catch (Exception e) {
+        Class<?> class2 = loadClass(type2);
+        if (class2 == null) {
             return OBJECT_CLASS;
         }
 
@@ -72,4 +75,20 @@ public class BallerinaClassWriter extends ClassWriter {
 
         return class1.getName().replace('.', '/');
     }
+
+    private Class<?> loadClass(String type) {
+        Class<?> clazz = LOADED_CLASSES.get(type);
+        if (clazz != null || unresolvedTypes.contains(type)) {
+            return clazz;
+        }
+
+        try {
+            clazz = Class.forName(type.replace('/', '.'), false, getClassLoader());
+        } catch (Exception e) {
+            unresolvedTypes.add(type);
+            return null;
+        }
+        LOADED_CLASSES.put(type, clazz);
+        return clazz;
+    }
 }
@@ -21,6 +21,7 @@ package org.wso2.ballerinalang.compiler.bir.codegen.methodgen;
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
 import org.wso2.ballerinalang.compiler.bir.codegen.JarEntries;
@@ -32,10 +33,18 @@ import org.wso2.ballerinalang.compiler.util.TypeTags;
 import java.util.List;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V17;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.CLEAR_LOCALS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.FUNCTION_INVOCATION;
 import static org.wso2.ballerinalang.compiler.bir.codegen.methodgen.MethodGen.STATE;
 
@@ -81,6 +90,8 @@ public class FrameClassGen {
         cw.visit(V17, Opcodes.ACC_PUBLIC + ACC_SUPER, frameClassName, null, FUNCTION_FRAME, null);
         JvmCodeGenUtil.generateDefaultConstructor(cw, FUNCTION_FRAME);
 
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, CLEAR_LOCALS, VOID_METHOD_DESC, null, null);
+        mv.visitCode();
         int k = 0;
         List<BIRNode.BIRVariableDcl> localVars = func.localVars;
         while (k < localVars.size()) {
@@ -93,8 +104,18 @@ public class FrameClassGen {
             String fieldName = localVar.jvmVarName;
             String typeSig = JvmCodeGenUtil.getFieldTypeSignature(bType);
             cw.visitField(Opcodes.ACC_PUBLIC, fieldName, typeSig, null, null).visitEnd();
+            if (isReferenceType(typeSig)) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitInsn(ACONST_NULL);
+                mv.visitFieldInsn(PUTFIELD, frameClassName, fieldName, typeSig);
+            }
             k = k + 1;
         }
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, FUNCTION_FRAME, CLEAR_LOCALS, VOID_METHOD_DESC, false);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
 
         FieldVisitor fv = cw.visitField(Opcodes.ACC_PUBLIC, STATE, "I", null, null);
         fv.visitEnd();
@@ -108,4 +129,9 @@ public class FrameClassGen {
         pkgEntries.put(frameClassName + CLASS_FILE_SUFFIX, cw.toByteArray());
     }
 
+    private static boolean isReferenceType(String typeSig) {
+        char descriptor = typeSig.charAt(0);
+        return descriptor == 'L' || descriptor == '[';
+    }
+
 }
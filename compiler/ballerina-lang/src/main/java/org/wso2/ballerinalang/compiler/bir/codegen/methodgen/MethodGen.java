@@ -92,6 +92,7 @@ import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFGT;
 import static org.objectweb.asm.Opcodes.IF_ICMPEQ;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -113,6 +114,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getMeth
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ANNOTATIONS_METHOD_PREFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ERROR_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FRAME_STACK;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.FUNCTION_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ANNOTATIONS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
@@ -121,7 +124,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_ST
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.PARENT_MODULE_START_ATTEMPTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.NO_OF_DEPENDANT_MODULES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.OBJECT_SELF_INSTANCE;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_LOCAL_VARIABLE_NAME;
@@ -134,6 +136,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BDEC
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BOBJECT;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_BSTRING;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_ERROR_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FRAME_STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUNCTION_POINTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_FUTURE_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_HANDLE_VALUE;
@@ -147,9 +150,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TABL
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INITIAL_METHOD_DESC;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PUSH_FRAME;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_FUNCTION_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 
@@ -163,6 +165,8 @@ public class MethodGen {
     protected static final String STATE = "state";
     protected static final String LOOP_VAR = "loopVar";
     protected static final String FUNCTION_INVOCATION = "functionInvocation";
+    protected static final String CLEAR_LOCALS = "clearLocals";
+    private static final String RECYCLE_FRAMES = "RECYCLE_FRAMES";
     private static final String INVOCATION_COUNT = "%invocationCount";
     private static final String RESUME_INDEX = "resumeIndex";
     private final JvmPackageGen jvmPackageGen;
@@ -352,6 +356,7 @@ public class MethodGen {
         genGetFrameOnResumeIndex(localVarOffset, mv, frameName);
 
         generateFrameClassFieldLoad(func.localVars, mv, indexMap, frameName);
+        genClearRecycledFrame(mv);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, frameName, STATE, "I");
         mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -360,9 +365,7 @@ public class MethodGen {
         mv.visitJumpInsn(GOTO, varInitLabel);
 
         mv.visitLabel(yieldLabel);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        genGetFrameOnYield(localVarOffset, mv, frameName);
 
         generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
 
@@ -742,9 +745,45 @@ public class MethodGen {
         mv.visitInsn(ISUB);
         mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "pop", RETURN_OBJECT, false);
+        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, GET_FRAME_STACK);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "pop", RETURN_FUNCTION_FRAME, false);
+        mv.visitTypeInsn(CHECKCAST, frameName);
+    }
+
+    private void genClearRecycledFrame(MethodVisitor mv) {
+        // a popped frame is kept in the frame stack when recycling frames, hence it should not keep the values of the
+        // local variables reachable once they are loaded
+        Label frameClearedLabel = new Label();
+        mv.visitFieldInsn(GETSTATIC, FRAME_STACK, RECYCLE_FRAMES, "Z");
+        mv.visitJumpInsn(IFEQ, frameClearedLabel);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FUNCTION_FRAME, CLEAR_LOCALS, VOID_METHOD_DESC, false);
+        mv.visitLabel(frameClearedLabel);
+    }
+
+    private void genGetFrameOnYield(int localVarOffset, MethodVisitor mv, String frameName) {
+        // if frame recycling is enabled, reuse the frame popped at the same depth if it was created by this function,
+        // else create a new frame
+        Label newFrameLabel = new Label();
+        Label notRecycledLabel = new Label();
+        Label frameLoadedLabel = new Label();
+        mv.visitFieldInsn(GETSTATIC, FRAME_STACK, RECYCLE_FRAMES, "Z");
+        mv.visitJumpInsn(IFEQ, newFrameLabel);
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, GET_FRAME_STACK);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "getRecycled", RETURN_FUNCTION_FRAME, false);
+        mv.visitInsn(DUP);
+        mv.visitTypeInsn(INSTANCEOF, frameName);
+        mv.visitJumpInsn(IFEQ, notRecycledLabel);
         mv.visitTypeInsn(CHECKCAST, frameName);
+        mv.visitJumpInsn(GOTO, frameLoadedLabel);
+        mv.visitLabel(notRecycledLabel);
+        mv.visitInsn(POP);
+        mv.visitLabel(newFrameLabel);
+        mv.visitTypeInsn(NEW, frameName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitLabel(frameLoadedLabel);
     }
 
     private void generateFrameClassFieldLoad(List<BIRVariableDcl> localVars, MethodVisitor mv,
@@ -1038,10 +1077,9 @@ public class MethodGen {
         int frameVarIndex = indexMap.addIfNotExists("frame", symbolTable.stringType);
         mv.visitVarInsn(ASTORE, frameVarIndex);
         mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
+        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, GET_FRAME_STACK);
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "push", PASS_OBJECT_RETURN_OBJECT, false);
-        mv.visitInsn(POP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, FRAME_STACK, "push", PUSH_FRAME, false);
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
@@ -20,6 +20,7 @@ import io.ballerina.tools.diagnostics.Location;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -32,6 +33,7 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.SymbolResolver;
 import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
@@ -59,12 +61,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangRecordVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -187,6 +191,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -200,6 +205,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.UNDERSCORE;
 import static org.ballerinalang.model.symbols.SymbolOrigin.VIRTUAL;
@@ -218,8 +224,17 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION = new Name("createTopKOrderByFunction");
     private static final Name QUERY_CREATE_GROUP_BY_FUNCTION = new Name("createGroupByFunction");
     private static final Name QUERY_CREATE_COLLECT_FUNCTION = new Name("createCollectFunction");
+    private static final Name QUERY_GET_AGGREGATED_COUNT_FUNCTION = new Name("getAggregatedCount");
+    private static final String AGGREGATION_SUM = "sum";
+    private static final String AGGREGATION_MAX = "max";
+    private static final String AGGREGATION_MIN = "min";
+    private static final String AGGREGATION_COUNT = "count";
+    private static final String AGGREGATION_FIRST = "first";
+    private static final String AGGREGATION_LAST = "last";
+    private static final String AGGREGATION_UNUSED = "unused";
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_ON_CONFLICT_FUNCTION = new Name("createOnConflictFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
@@ -237,6 +252,8 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
     private static final Name QUERY_GET_STREAM_FOR_ON_CONFLICT_FROM_PIPELINE_FUNCTION = 
             new Name("getStreamForOnConflictFromPipeline");
+    private static final Name QUERY_GET_INDEXED_ROWS_FUNCTION = new Name("getIndexedRows");
+    private static final Name QUERY_IS_WITHIN_LIMIT_FUNCTION = new Name("isWithinLimit");
     private static final Name QUERY_GET_QUERY_ERROR_ROOT_CAUSE_FUNCTION = new Name("getQueryErrorRootCause");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final Name QUERY_BODY_DISTINCT_ERROR_NAME = new Name("Error");
@@ -292,6 +309,12 @@ public class QueryDesugar extends BLangNodeVisitor {
         HashSet<BType> prevCheckedErrorList = this.checkedErrorList;
         this.checkedErrorList = new HashSet<>();
 
+        if (isFusableQuery(queryExpr, env)) {
+            BLangStatementExpression fusedQuery = desugarToFusedLoop(queryExpr, env);
+            this.checkedErrorList = prevCheckedErrorList;
+            return fusedQuery;
+        }
+
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
@@ -355,6 +378,187 @@ public class QueryDesugar extends BLangNodeVisitor {
         return streamStmtExpr;
     }
 
+    /**
+     * Check whether the query can be desugared to a single loop over the collection instead of a stream pipeline.
+     * This is the case for queries which only have where, let and limit clauses between a from clause over a list,
+     * map or table and a select clause, and which construct a mutable array without using `check`. Function and
+     * object constructors and nested queries are also excluded, since they may capture the variables of the query.
+     *
+     * @param queryExpr query expression.
+     * @param env       symbol env.
+     * @return whether the query can be desugared to a loop.
+     */
+    private boolean isFusableQuery(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isMap || env.enclInvokable == null
+                || Symbols.isFlagOn(queryExpr.getBType().flags, Flags.READONLY)) {
+            return false;
+        }
+        BType resultType = Types.getImpliedType(queryExpr.getBType());
+        if (resultType.tag != TypeTags.ARRAY || ((BArrayType) resultType).state != BArrayState.OPEN) {
+            return false;
+        }
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (fromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return false;
+        }
+        switch (Types.getImpliedType(fromClause.collection.getBType()).tag) {
+            case TypeTags.ARRAY:
+            case TypeTags.MAP:
+            case TypeTags.TABLE:
+                break;
+            default:
+                return false;
+        }
+        if (clauses.get(clauses.size() - 1).getKind() != NodeKind.SELECT) {
+            return false;
+        }
+        for (BLangNode clause : clauses.subList(1, clauses.size() - 1)) {
+            switch (clause.getKind()) {
+                case WHERE:
+                case LET_CLAUSE:
+                case LIMIT:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        FusableQueryAnalyzer analyzer = new FusableQueryAnalyzer();
+        analyzer.visitNode(clauses, null);
+        return analyzer.isFusable;
+    }
+
+    /**
+     * Desugar a query accepted by {@link #isFusableQuery} to below, where the variables of the query are locals
+     * instead of fields of a frame.
+     *
+     * T[] $result$ = [];
+     * int $index$ = 0;
+     * int $count$ = 0;
+     * foreach var x in collection {
+     *     if (where-expr) {
+     *         int y = let-expr;
+     *         if (!isWithinLimit(limit-expr, $count$)) {
+     *             break;
+     *         }
+     *         $count$ = $count$ + 1;
+     *         $result$[$index$] = select-expr;
+     *         $index$ = $index$ + 1;
+     *     }
+     * }
+     * As in the stream pipeline, the collection of a query over a table is looked up using a secondary index of the
+     * table when possible, see {@link #getIndexedCollection}.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToFusedLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        this.env = env;
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BType resultType = queryExpr.getBType();
+        BArrayType arrayType = (BArrayType) Types.getImpliedType(resultType);
+        BLangArrayLiteral arrayLiteral = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        arrayLiteral.exprs = new ArrayList<>();
+        arrayLiteral.setBType(arrayType);
+        arrayLiteral.pos = pos;
+        BLangSimpleVarRef resultRef = addLocalVariable(queryBlock, pos, arrayType, arrayLiteral);
+        BLangSimpleVarRef indexRef = addLocalVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = getIndexedCollection(fromClause, clauses);
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        setSymbolOwner((BLangVariable) fromClause.variableDefinitionNode.getVariable(), env.scope.owner);
+
+        BLangBlockStmt body = ASTBuilderUtil.createBlockStmt(pos);
+        foreach.body = body;
+        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+            switch (clause.getKind()) {
+                case WHERE:
+                    BLangWhereClause whereClause = (BLangWhereClause) clause;
+                    BLangBlockStmt ifBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+                    body.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos,
+                            types.addConversionExprIfRequired(whereClause.expression, symTable.booleanType),
+                            ifBody, null));
+                    body = ifBody;
+                    break;
+                case LET_CLAUSE:
+                    for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                        body.addStatement((BLangStatement) letVariable.definitionNode);
+                        setSymbolOwner((BLangVariable) letVariable.definitionNode.getVariable(), env.scope.owner);
+                    }
+                    break;
+                case LIMIT:
+                    addLimitCheck(queryBlock, body, (BLangLimitClause) clause);
+                    break;
+                case SELECT:
+                    BLangSelectClause selectClause = (BLangSelectClause) clause;
+                    BType elementType = arrayType.eType;
+                    BLangIndexBasedAccess elementAccess = ASTBuilderUtil.createIndexAccessExpr(
+                            ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) resultRef.symbol),
+                            ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) indexRef.symbol));
+                    elementAccess.setBType(elementType);
+                    elementAccess.pos = selectClause.pos;
+                    body.addStatement(ASTBuilderUtil.createAssignmentStmt(selectClause.pos, elementAccess,
+                            types.addConversionExprIfRequired(selectClause.expression, elementType)));
+                    body.addStatement(createIncrementStmt(selectClause.pos, indexRef));
+                    break;
+            }
+        }
+        queryBlock.addStatement(foreach);
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                addTypeConversionExpr(ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) resultRef.symbol),
+                        resultType));
+        stmtExpr.setBType(resultType);
+        return stmtExpr;
+    }
+
+    // if (!isWithinLimit(limit-expr, $count$)) { break; } $count$ = $count$ + 1;
+    private void addLimitCheck(BLangBlockStmt queryBlock, BLangBlockStmt body, BLangLimitClause limitClause) {
+        Location pos = limitClause.pos;
+        BLangSimpleVarRef countRef = addLocalVariable(queryBlock, pos, symTable.intType,
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 0L));
+        BLangInvocation isWithinLimit = createQueryLibInvocation(QUERY_IS_WITHIN_LIMIT_FUNCTION,
+                Lists.of(types.addConversionExprIfRequired(limitClause.expression, symTable.intType),
+                        ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) countRef.symbol)), pos);
+        BLangBlockStmt ifBody = ASTBuilderUtil.createBlockStmt(pos);
+        BLangBreak breakStmt = (BLangBreak) TreeBuilder.createBreakNode();
+        breakStmt.pos = pos;
+        ifBody.addStatement(breakStmt);
+        body.addStatement(ASTBuilderUtil.createIfElseStmt(pos, desugar.createNotBinaryExpression(pos, isWithinLimit),
+                ifBody, null));
+        body.addStatement(createIncrementStmt(pos, countRef));
+    }
+
+    private BLangSimpleVarRef addLocalVariable(BLangBlockStmt blockStmt, Location pos, BType type,
+                                               BLangExpression initExpr) {
+        String name = getNewVarName();
+        BVarSymbol varSymbol = new BVarSymbol(0, new Name(name), env.scope.owner.pkgID, type, env.scope.owner, pos,
+                VIRTUAL);
+        BLangSimpleVariable variable = ASTBuilderUtil.createVariable(pos, name, type, initExpr, varSymbol);
+        blockStmt.addStatement(ASTBuilderUtil.createVariableDef(pos, variable));
+        return ASTBuilderUtil.createVariableRef(pos, varSymbol);
+    }
+
+    private BLangAssignment createIncrementStmt(Location pos, BLangSimpleVarRef varRef) {
+        BVarSymbol varSymbol = (BVarSymbol) varRef.symbol;
+        BLangBinaryExpr increment = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, varSymbol),
+                ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L), symTable.intType, OperatorKind.ADD, null);
+        return ASTBuilderUtil.createAssignmentStmt(pos, ASTBuilderUtil.createVariableRef(pos, varSymbol), increment);
+    }
+
     private BMapType getMapType(BType type) {
         BMapType resultantType = (BMapType) Types.getImpliedType(types.getSafeType(type, false, true));
         return resultantType;
@@ -502,7 +706,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
         final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+                getIndexedCollection(initFromClause, clauses), resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause, stmtsToBePropagated);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -537,12 +741,13 @@ public class QueryDesugar extends BLangNodeVisitor {
                     break;
                 case ORDER_BY:
                     BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause,
-                            stmtsToBePropagated);
+                            getConstantLimit(clauses, clause), stmtsToBePropagated);
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case GROUP_BY:
                     BLangVariableReference groupByFunc = addGroupByFunction(block, (BLangGroupByClause) clause,
-                            stmtsToBePropagated, initPipeline);
+                            clauses.subList(clauses.indexOf(clause) + 1, clauses.size()), stmtsToBePropagated,
+                            initPipeline);
                     addStreamFunction(block, initPipeline, groupByFunc);
                     break;
                 case SELECT:
@@ -576,6 +781,152 @@ public class QueryDesugar extends BLangNodeVisitor {
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
+    /**
+     * When a query over a table starts with a where clause comparing a field of the row with a value that does not
+     * change during the query, desugar the collection to below so that the rows can be looked up using a secondary
+     * index of the field, if the table has one.
+     * getIndexedRows(tbl, "field", "==", value)
+     * The where clause is kept as it is, since the table itself is returned when the field is not indexed.
+     *
+     * @param initFromClause the first from clause of the query.
+     * @param clauses        all the clauses of the query.
+     * @return the collection to be used for the pipeline.
+     */
+    private BLangExpression getIndexedCollection(BLangFromClause initFromClause, List<BLangNode> clauses) {
+        BLangExpression collection = initFromClause.collection;
+        if (clauses.size() < 2 || clauses.get(1).getKind() != NodeKind.WHERE
+                || Types.getImpliedType(collection.getBType()).tag != TypeTags.TABLE
+                || initFromClause.variableDefinitionNode.getVariable().getKind() != NodeKind.VARIABLE) {
+            return collection;
+        }
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) initFromClause.variableDefinitionNode.getVariable()).symbol;
+        BLangBinaryExpr comparison = findIndexableComparison(((BLangWhereClause) clauses.get(1)).expression,
+                rowSymbol);
+        if (comparison == null) {
+            return collection;
+        }
+        boolean isFieldOnLhs = isRowFieldAccess(comparison.lhsExpr, rowSymbol);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) unwrapGroupExpr(
+                isFieldOnLhs ? comparison.lhsExpr : comparison.rhsExpr);
+        BLangExpression value = createIndexLookupValue(isFieldOnLhs ? comparison.rhsExpr : comparison.lhsExpr);
+        String operator = getIndexLookupOperator(comparison.opKind, isFieldOnLhs);
+
+        Location pos = initFromClause.pos;
+        BLangInvocation indexedRows = createQueryLibInvocation(QUERY_GET_INDEXED_ROWS_FUNCTION,
+                Lists.of(collection, ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value),
+                        ASTBuilderUtil.createLiteral(pos, symTable.stringType, operator),
+                        addTypeConversionExpr(value, symTable.anydataType)), pos);
+        return addTypeConversionExpr(indexedRows, collection.getBType());
+    }
+
+    private BLangBinaryExpr findIndexableComparison(BLangExpression expr, BVarSymbol rowSymbol) {
+        expr = unwrapGroupExpr(expr);
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr comparison = findIndexableComparison(binaryExpr.lhsExpr, rowSymbol);
+                return comparison != null ? comparison : findIndexableComparison(binaryExpr.rhsExpr, rowSymbol);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                if (isRowFieldAccess(binaryExpr.lhsExpr, rowSymbol) && isIndexLookupValue(binaryExpr.rhsExpr)
+                        || isRowFieldAccess(binaryExpr.rhsExpr, rowSymbol)
+                        && isIndexLookupValue(binaryExpr.lhsExpr)) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isRowFieldAccess(BLangExpression expr, BVarSymbol rowSymbol) {
+        expr = unwrapGroupExpr(expr);
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        return !fieldAccess.optionalFieldAccess && fieldAccess.expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF
+                && ((BLangSimpleVarRef) fieldAccess.expr).symbol == rowSymbol
+                && Types.getImpliedType(fieldAccess.expr.getBType()).tag == TypeTags.RECORD;
+    }
+
+    // Only values which can be evaluated before the query starts without changing its behaviour are used for the
+    // lookup: literals, constants, function parameters and final module level variables.
+    private boolean isIndexLookupValue(BLangExpression expr) {
+        expr = unwrapGroupExpr(expr);
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return isIndexLookupType(expr.getBType());
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                if (symbol == null) {
+                    return false;
+                }
+                if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+                    return isIndexLookupType(((BConstantSymbol) symbol).literalType);
+                }
+                if ((symbol.tag & SymTag.VARIABLE) != SymTag.VARIABLE
+                        || !isIndexLookupType(expr.getBType())) {
+                    return false;
+                }
+                return Symbols.isFlagOn(symbol.flags, Flags.REQUIRED_PARAM)
+                        || Symbols.isFlagOn(symbol.flags, Flags.DEFAULTABLE_PARAM)
+                        || ((symbol.owner.tag & SymTag.PACKAGE) == SymTag.PACKAGE
+                            && Symbols.isFlagOn(symbol.flags, Flags.FINAL));
+            default:
+                return false;
+        }
+    }
+
+    private boolean isIndexLookupType(BType type) {
+        if (type == null) {
+            return false;
+        }
+        return switch (Types.getImpliedType(type).tag) {
+            case TypeTags.INT, TypeTags.BYTE, TypeTags.STRING, TypeTags.BOOLEAN -> true;
+            default -> false;
+        };
+    }
+
+    private BLangExpression createIndexLookupValue(BLangExpression expr) {
+        expr = unwrapGroupExpr(expr);
+        Location pos = expr.pos;
+        if (expr.getKind() == NodeKind.LITERAL || expr.getKind() == NodeKind.NUMERIC_LITERAL) {
+            return ASTBuilderUtil.createLiteral(pos, expr.getBType(), ((BLangLiteral) expr).value);
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+        if ((symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT) {
+            BConstantSymbol constantSymbol = (BConstantSymbol) symbol;
+            return ASTBuilderUtil.createLiteral(pos, constantSymbol.literalType, constantSymbol.value.value);
+        }
+        return ASTBuilderUtil.createVariableRef(pos, (BVarSymbol) symbol);
+    }
+
+    private String getIndexLookupOperator(OperatorKind opKind, boolean isFieldOnLhs) {
+        return switch (opKind) {
+            case LESS_THAN -> isFieldOnLhs ? "<" : ">";
+            case LESS_EQUAL -> isFieldOnLhs ? "<=" : ">=";
+            case GREATER_THAN -> isFieldOnLhs ? ">" : "<";
+            case GREATER_EQUAL -> isFieldOnLhs ? ">=" : "<=";
+            default -> "==";
+        };
+    }
+
+    private BLangExpression unwrapGroupExpr(BLangExpression expr) {
+        while (expr.getKind() == NodeKind.GROUP_EXPR) {
+            expr = ((BLangGroupExpr) expr).expression;
+        }
+        return expr;
+    }
+
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
      * _StreamPipeline pipeline = createPipeline(collection);
@@ -795,13 +1146,17 @@ public class QueryDesugar extends BLangNodeVisitor {
      * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
      * });
      *
+     * When the orderByClause is followed by a limit clause with a constant limit K,
+     * createTopKOrderByFunction(orderFunc, K) is used instead so that only the first K frames are kept.
+     *
      * @param blockStmt           parent block to write to.
      * @param orderByClause       to be desugared.
+     * @param limit               constant limit of the following limit clause, null if there is none.
      * @param stmtsToBePropagated list of statements to be propagated.
      * @return variableReference to created orderBy _StreamFunction.
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
-                                              List<BLangStatement> stmtsToBePropagated) {
+                                              Long limit, List<BLangStatement> stmtsToBePropagated) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -834,10 +1189,66 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
+        if (limit != null) {
+            BLangLiteral limitLiteral = ASTBuilderUtil.createLiteral(pos, symTable.intType, limit);
+            return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION,
+                    Lists.of(lambda, limitLiteral), pos);
+        }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
     }
 
+    /**
+     * Returns the value of the limit clause that immediately follows the given clause, if the limit is a positive
+     * int literal or constant. Otherwise, returns null.
+     *
+     * @param clauses all the clauses of the query.
+     * @param clause  the clause that may be followed by a limit clause.
+     * @return the constant limit or null.
+     */
+    private Long getConstantLimit(List<BLangNode> clauses, BLangNode clause) {
+        int nextIndex = clauses.indexOf(clause) + 1;
+        if (nextIndex >= clauses.size() || clauses.get(nextIndex).getKind() != NodeKind.LIMIT) {
+            return null;
+        }
+        BLangExpression limitExpr = unwrapGroupExpr(((BLangLimitClause) clauses.get(nextIndex)).expression);
+        Object value;
+        switch (limitExpr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                value = ((BLangLiteral) limitExpr).value;
+                break;
+            case CONSTANT_REF:
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) limitExpr).symbol;
+                if (symbol == null || (symbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT) {
+                    return null;
+                }
+                value = ((BConstantSymbol) symbol).value.value;
+                break;
+            default:
+                return null;
+        }
+        if (value instanceof Long longValue && longValue > 0) {
+            return longValue;
+        }
+        return null;
+    }
+
+    /**
+     * Desugar groupByClause to below and return a reference to created groupBy _StreamFunction.
+     * _StreamFunction groupByFunc = createGroupByFunction(["key"], ["x", "y"], ["sum", ""]);
+     * Values of a non-grouping key are aggregated while grouping, when the sequence variable is only used as the
+     * argument of a known langlib aggregate function in the clauses that follow. See {@link #getAggregations}.
+     *
+     * @param blockStmt           parent block to write to.
+     * @param groupByClause       to be desugared.
+     * @param followingClauses    clauses that follow the groupByClause.
+     * @param stmtsToBePropagated list of statements to be propagated.
+     * @param initPipeline        variableReference to the pipeline.
+     * @return variableReference to created groupBy _StreamFunction.
+     */
     BLangVariableReference addGroupByFunction(BLangBlockStmt blockStmt, BLangGroupByClause groupByClause,
+                                              List<BLangNode> followingClauses,
                                               List<BLangStatement> stmtsToBePropagated,
                                               BLangVariableReference initPipeline) {
         Location pos = groupByClause.pos;
@@ -859,11 +1270,20 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        BLangArrayLiteral aggregations = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregations.exprs = new ArrayList<>();
+        aggregations.setBType(new BArrayType(symTable.stringType));
+        // A later group by or collect regroups the sequence variables, hence their values are not aggregated.
+        boolean isRegrouped = followingClauses.stream().anyMatch(clause -> clause.getKind() == NodeKind.GROUP_BY
+                || clause.getKind() == NodeKind.COLLECT);
+        Map<String, String> aggregationsByKey = isRegrouped ? Collections.emptyMap()
+                : getAggregations(groupByClause.nonGroupingKeys, followingClauses);
         for (String nonGroupingKey : groupByClause.nonGroupingKeys) {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            aggregations.exprs.add(createStringLiteral(pos, aggregationsByKey.getOrDefault(nonGroupingKey, "")));
         }
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_GROUP_BY_FUNCTION,
-                Lists.of(keys, nonGroupingKeys), pos);
+                Lists.of(keys, nonGroupingKeys, aggregations), pos);
     }
 
     BLangVariableReference addCollectFunction(BLangBlockStmt blockStmt, BLangCollectClause collectClause,
@@ -872,8 +1292,14 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangArrayLiteral nonGroupingKeys = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
         nonGroupingKeys.exprs = new ArrayList<>();
         nonGroupingKeys.setBType(new BArrayType(symTable.stringType));
+        BLangArrayLiteral aggregations = (BLangArrayLiteral) TreeBuilder.createArrayLiteralExpressionNode();
+        aggregations.exprs = new ArrayList<>();
+        aggregations.setBType(new BArrayType(symTable.stringType));
+        Map<String, String> aggregationsByKey = getAggregations(collectClause.nonGroupingKeys,
+                Lists.of(collectClause.expression));
         for (String nonGroupingKey : collectClause.nonGroupingKeys) {
             nonGroupingKeys.exprs.add(createStringLiteral(pos, nonGroupingKey));
+            aggregations.exprs.add(createStringLiteral(pos, aggregationsByKey.getOrDefault(nonGroupingKey, "")));
         }
 
         BLangLambdaFunction lambda = createPassthroughLambda(pos);
@@ -885,7 +1311,45 @@ public class QueryDesugar extends BLangNodeVisitor {
         body.stmts.add(body.stmts.size() - 1, assignment);
         lambda.accept(this);
         return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_COLLECT_FUNCTION,
-                Lists.of(nonGroupingKeys, lambda), pos);
+                Lists.of(nonGroupingKeys, aggregations, lambda), pos);
+    }
+
+    /**
+     * Returns the aggregation to be used for the values of each non-grouping key that is only used as the sole
+     * argument of the same known langlib aggregate function in the given nodes, e.g. `sum(price)`.
+     * The values of such a key are aggregated as the frames arrive instead of being kept in a list, and the
+     * sequence is then a list with just the aggregated value, which gives the same result for the function.
+     * Since `count` needs all the values, its invocations are changed to use the aggregated count instead.
+     * Values of a non-grouping key whose sequence variable is not used at all are not kept.
+     *
+     * @param nonGroupingKeys non-grouping keys of the group by or collect clause.
+     * @param nodes           nodes in which the sequence variables of the non-grouping keys are used.
+     * @return aggregations of the non-grouping keys that can be aggregated.
+     */
+    private Map<String, String> getAggregations(Set<String> nonGroupingKeys, List<? extends BLangNode> nodes) {
+        AggregationAnalyzer analyzer = new AggregationAnalyzer(nonGroupingKeys);
+        analyzer.visitNode(nodes, null);
+        Map<String, String> aggregations = new HashMap<>();
+        for (String nonGroupingKey : nonGroupingKeys) {
+            if (!analyzer.aggregations.containsKey(nonGroupingKey)
+                    && !analyzer.nonAggregatedKeys.contains(nonGroupingKey)) {
+                aggregations.put(nonGroupingKey, AGGREGATION_UNUSED);
+            }
+        }
+        for (Map.Entry<String, String> entry : analyzer.aggregations.entrySet()) {
+            String nonGroupingKey = entry.getKey();
+            if (analyzer.nonAggregatedKeys.contains(nonGroupingKey)) {
+                continue;
+            }
+            aggregations.put(nonGroupingKey, entry.getValue());
+            if (AGGREGATION_COUNT.equals(entry.getValue())) {
+                BInvokableSymbol countSymbol = getQueryLibInvokableSymbol(QUERY_GET_AGGREGATED_COUNT_FUNCTION);
+                for (BLangInvocation invocation : analyzer.invocations.get(nonGroupingKey)) {
+                    invocation.symbol = countSymbol;
+                }
+            }
+        }
+        return aggregations;
     }
 
     BLangLetClause createLetClauseFromVarDef(BLangSimpleVariableDef varDef) {
@@ -2802,6 +3266,127 @@ public class QueryDesugar extends BLangNodeVisitor {
         node.accept(this);
     }
 
+    /**
+     * Finds the langlib aggregate function each sequence variable of the given non-grouping keys is passed to.
+     */
+    private static class AggregationAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Set<String> nonGroupingKeys;
+        private final Map<String, String> aggregations = new HashMap<>();
+        private final Map<String, List<BLangInvocation>> invocations = new HashMap<>();
+        private final Set<String> nonAggregatedKeys = new HashSet<>();
+
+        AggregationAnalyzer(Set<String> nonGroupingKeys) {
+            this.nonGroupingKeys = nonGroupingKeys;
+        }
+
+        @Override
+        public void visit(BLangInvocation node, Object data) {
+            String aggregation = getAggregation(node);
+            if (aggregation == null) {
+                super.visit(node, data);
+                return;
+            }
+            String nonGroupingKey = ((BLangSimpleVarRef) node.restArgs.get(0)).variableName.value;
+            String existingAggregation = aggregations.putIfAbsent(nonGroupingKey, aggregation);
+            if (existingAggregation != null && !existingAggregation.equals(aggregation)) {
+                nonAggregatedKeys.add(nonGroupingKey);
+            }
+            invocations.computeIfAbsent(nonGroupingKey, key -> new ArrayList<>()).add(node);
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            if (node.getKind() == NodeKind.SIMPLE_VARIABLE_REF && isNonGroupingKeyRef((BLangSimpleVarRef) node)) {
+                nonAggregatedKeys.add(((BLangSimpleVarRef) node).variableName.value);
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+
+        private String getAggregation(BLangInvocation invocation) {
+            if (invocation.functionPointerInvocation || invocation.expr != null || invocation.restArgs.size() != 1
+                    || invocation.argExprs.size() != 1 || !invocation.requiredArgs.isEmpty()
+                    || invocation.restArgs.get(0).getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                    || !(invocation.symbol instanceof BInvokableSymbol symbol)) {
+                return null;
+            }
+            BLangSimpleVarRef sequenceRef = (BLangSimpleVarRef) invocation.restArgs.get(0);
+            if (!isNonGroupingKeyRef(sequenceRef)) {
+                return null;
+            }
+            String functionName = symbol.name.value;
+            if (symbol.pkgID.equals(PackageID.VALUE)) {
+                return switch (functionName) {
+                    case AGGREGATION_COUNT, AGGREGATION_FIRST, AGGREGATION_LAST -> functionName;
+                    default -> null;
+                };
+            }
+            if (!symbol.pkgID.equals(PackageID.INT) && !symbol.pkgID.equals(PackageID.FLOAT)
+                    && !symbol.pkgID.equals(PackageID.DECIMAL)) {
+                return null;
+            }
+            return switch (functionName) {
+                case AGGREGATION_MAX, AGGREGATION_MIN -> functionName;
+                // The sum is kept in the sequence, thus it must belong to the element type.
+                case AGGREGATION_SUM -> isSummableElementType(sequenceRef.symbol.type) ? functionName : null;
+                default -> null;
+            };
+        }
+
+        private boolean isNonGroupingKeyRef(BLangSimpleVarRef varRef) {
+            BSymbol symbol = varRef.symbol;
+            return symbol != null && (symbol.tag & SymTag.SEQUENCE) == SymTag.SEQUENCE
+                    && nonGroupingKeys.contains(varRef.variableName.value);
+        }
+
+        private static boolean isSummableElementType(BType sequenceType) {
+            BType elementType;
+            if (sequenceType.tag == TypeTags.SEQUENCE) {
+                elementType = ((BSequenceType) sequenceType).elementType;
+            } else if (sequenceType.tag == TypeTags.TUPLE) {
+                elementType = ((BTupleType) sequenceType).restType;
+            } else {
+                return false;
+            }
+            if (elementType == null) {
+                return false;
+            }
+            int tag = Types.getImpliedType(elementType).tag;
+            return tag == TypeTags.INT || tag == TypeTags.FLOAT || tag == TypeTags.DECIMAL;
+        }
+    }
+
+    /**
+     * Looks for expressions in the clauses of a query which prevent it from being desugared to a loop.
+     */
+    private static class FusableQueryAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private boolean isFusable = true;
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case CHECK_EXPR:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case OBJECT_CTOR_EXPRESSION:
+                case QUERY_EXPR:
+                case DO_ACTION:
+                    isFusable = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
+
     <E extends BLangNode> E rewrite(E node) {
         if (node == null) {
             return null;
@@ -64,8 +64,14 @@ function createOrderByFunction(function(_Frame _frame) returns error? orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
-function createGroupByFunction(string[] keys, string[] nonGroupingKeys) returns _StreamFunction {
-    return new _GroupByFunction(keys, nonGroupingKeys);
+function createTopKOrderByFunction(function(_Frame _frame) returns error? orderFunc, int k)
+        returns _StreamFunction {
+    return new _OrderByFunction(orderFunc, k);
+}
+
+function createGroupByFunction(string[] keys, string[] nonGroupingKeys, string[] aggregations)
+        returns _StreamFunction {
+    return new _GroupByFunction(keys, nonGroupingKeys, aggregations);
 }
 
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
@@ -76,8 +82,9 @@ function createSelectFunction(function(_Frame _frame) returns _Frame|error? sele
 function createOnConflictFunction(function(_Frame _frame) returns _Frame|error? onConflictFunc)
         returns _StreamFunction => new _OnConflictFunction(onConflictFunc);
 
-function createCollectFunction(string[] nonGroupingKeys, function(_Frame _frame) returns _Frame|error? collectFunc) returns _StreamFunction {
-    return new _CollectFunction(nonGroupingKeys, collectFunc);
+function createCollectFunction(string[] nonGroupingKeys, string[] aggregations,
+        function(_Frame _frame) returns _Frame|error? collectFunc) returns _StreamFunction {
+    return new _CollectFunction(nonGroupingKeys, aggregations, collectFunc);
 }
 
 function createDoFunction(function(_Frame _frame) returns any|error doFunc) returns _StreamFunction {
@@ -88,6 +95,13 @@ function createLimitFunction(function (_Frame _frame) returns int limitFunction)
     return new _LimitFunction(limitFunction);
 }
 
+function isWithinLimit(int lmt, int count) returns boolean {
+    if (lmt < 1) {
+        panic error("Invalid limit", message = "limit cannot be < 1.");
+    }
+    return count < lmt;
+}
+
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
     pipeline.addStreamFunction(streamFunction);
 }
@@ -328,6 +342,66 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function getIndexedRows(table<map<Type>> tbl, string fieldName, string operator, anydata value)
+        returns table<map<Type>> = @java:Method {
+    'class: "org.ballerinalang.langlib.query.IndexedRows",
+    name: "getIndexedRows"
+} external;
+
+function initGroupedFrame(_Frame groupedFrame, string[] nonGroupingKeys, string[] aggregations) {
+    foreach int i in 0 ..< nonGroupingKeys.length() {
+        // an aggregated value is nil until the first value arrives.
+        groupedFrame[nonGroupingKeys[i]] = aggregations[i] == NO_AGGREGATION || aggregations[i] == UNUSED ? [] : ();
+    }
+}
+
+function addToGroupedFrame(_Frame groupedFrame, _Frame f, string[] nonGroupingKeys, string[] aggregations) {
+    foreach int i in 0 ..< nonGroupingKeys.length() {
+        string nonGroupingKey = nonGroupingKeys[i];
+        any|error val = f[nonGroupingKey];
+        if val is () || aggregations[i] == UNUSED {
+            continue;
+        }
+        any|error sequenceValue = groupedFrame[nonGroupingKey];
+        if aggregations[i] != NO_AGGREGATION {
+            groupedFrame[nonGroupingKey] = aggregate(aggregations[i], sequenceValue, val);
+        } else if sequenceValue is any {
+            (<(any|error)[]> sequenceValue).push(val);
+        }
+    }
+}
+
+# Replaces the aggregated values of the grouped frame with sequences that give the same result for the aggregate
+# function. i.e. a list with just the aggregated value, or an empty list if there were no values. An int sum that
+# overflowed is already a list of the partial sum and the value which overflowed it, so that the overflow error is
+# raised only if the sequence is summed.
+function completeGroupedFrame(_Frame groupedFrame, string[] nonGroupingKeys, string[] aggregations) {
+    foreach int i in 0 ..< nonGroupingKeys.length() {
+        if aggregations[i] != NO_AGGREGATION && aggregations[i] != UNUSED {
+            any|error aggregatedValue = groupedFrame[nonGroupingKeys[i]];
+            if aggregatedValue is () {
+                groupedFrame[nonGroupingKeys[i]] = [];
+            } else if aggregations[i] != SUM || aggregatedValue !is int[] {
+                groupedFrame[nonGroupingKeys[i]] = [aggregatedValue];
+            }
+        }
+    }
+}
+
+function getAggregatedCount(any|error... vs) returns int {
+    return vs.length() == 0 ? 0 : <int> vs[0];
+}
+
+function aggregate(string aggregation, any|error aggregatedValue, any|error value) returns any|error = @java:Method {
+    'class: "org.ballerinalang.langlib.query.Aggregate",
+    name: "aggregate"
+} external;
+
+function compareOrderKeys(any[] directions, any[] lhsKeys, any[] rhsKeys) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.CompareOrderKeys",
+    name: "compareOrderKeys"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
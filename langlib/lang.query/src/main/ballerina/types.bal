@@ -582,10 +582,13 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
+    # Number of frames needed from the ordered frames, when the order by is followed by a constant limit.
+    int? topK;
     stream<_Frame>? orderedStream;
 
-    function init(function (_Frame _frame) returns error? orderKeyFunc) {
+    function init(function (_Frame _frame) returns error? orderKeyFunc, int? topK = ()) {
         self.orderKeyFunc = orderKeyFunc;
+        self.topK = topK;
         self.orderedStream = ();
         self.prevFunc = ();
     }
@@ -596,6 +599,9 @@ class _OrderByFunction {
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
             boolean[] directions = [];
+            int? topK = self.topK;
+            // only the first `topK` frames are kept when the order by is followed by a constant limit.
+            _TopKFrames? topKFrames = topK is int ? new (topK) : ();
             _OrderTreeNode oTree = new;
             // consume all events for ordering.
             while (f is _Frame) {
@@ -603,13 +609,20 @@ class _OrderByFunction {
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                any[] orderDirections = <any[]>(checkpanic f["$orderDirection$"]);
+                any[] orderKeys = <any[]>(checkpanic f["$orderKey$"]);
+                if (topKFrames is _TopKFrames) {
+                    topKFrames.add(f, orderDirections, orderKeys);
+                } else {
+                    oTree.add(f, orderDirections, orderKeys);
+                }
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            _Frame[] orderedFrames = topKFrames is _TopKFrames ? topKFrames.get() : oTree.get();
+            self.orderedStream = orderedFrames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -629,9 +642,15 @@ class _OrderByFunction {
     }
 }
 
+# Langlib aggregate function applied to the values of a non-grouping key as they arrive, `NO_AGGREGATION` to
+# collect all the values of the key, or `UNUSED` to not keep the values of a key that is not used.
+const NO_AGGREGATION = "";
+const UNUSED = "unused";
+const SUM = "sum";
+
 type RowGroupedData record {|
     readonly anydata groupingKey;
-    _Frame[] frames;
+    _Frame groupedFrame;
 |};
 
 class _GroupByFunction {
@@ -639,12 +658,14 @@ class _GroupByFunction {
 
     string[] keys;
     string[] nonGroupingKeys;
+    string[] aggregations;
     stream<_Frame>? groupedStream;
     table<RowGroupedData> key(groupingKey) tbl;
 
-    function init(string[] keys, string[] nonGroupingKeys) {
+    function init(string[] keys, string[] nonGroupingKeys, string[] aggregations) {
         self.keys = keys;
         self.nonGroupingKeys = nonGroupingKeys;
+        self.aggregations = aggregations;
         self.groupedStream = ();
         self.tbl = table [];
         self.prevFunc = ();
@@ -657,9 +678,15 @@ class _GroupByFunction {
             while f is _Frame {
                 anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
                 if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
+                    addToGroupedFrame(self.tbl.get(key).groupedFrame, f, self.nonGroupingKeys, self.aggregations);
                 } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
+                    _Frame groupedFrame = {};
+                    foreach var groupingKey in self.keys {
+                        groupedFrame[groupingKey] = f[groupingKey];
+                    }
+                    initGroupedFrame(groupedFrame, self.nonGroupingKeys, self.aggregations);
+                    addToGroupedFrame(groupedFrame, f, self.nonGroupingKeys, self.aggregations);
+                    self.tbl.add({groupingKey: key, groupedFrame});
                 }
                 f = check pf.process();
             }
@@ -691,25 +718,8 @@ class _GroupByFunction {
         _Frame[] groupedFrames = [];
 
         foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
-            }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
-                    }
-                }
-            }
+            _Frame groupedFrame = entry.groupedFrame;
+            completeGroupedFrame(groupedFrame, self.nonGroupingKeys, self.aggregations);
             groupedFrames.push(groupedFrame);
         }
         return groupedFrames.toStream();
@@ -720,33 +730,27 @@ class _CollectFunction {
     *_StreamFunction;
 
     string[] nonGroupingKeys;
+    string[] aggregations;
     function (_Frame _frame) returns _Frame|error? collectFunc;
 
-    function init(string[] nonGroupingKeys, function (_Frame _frame) returns _Frame|error? collectFunc) {
+    function init(string[] nonGroupingKeys, string[] aggregations,
+            function (_Frame _frame) returns _Frame|error? collectFunc) {
         self.nonGroupingKeys = nonGroupingKeys;
+        self.aggregations = aggregations;
         self.collectFunc = collectFunc;
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
         _Frame groupedFrame = {};
-        foreach var nonGroupingKey in self.nonGroupingKeys {
-            groupedFrame[nonGroupingKey] = [];
-        }
+        initGroupedFrame(groupedFrame, self.nonGroupingKeys, self.aggregations);
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
         _Frame? f = check pf.process();
         while f is _Frame {
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                any|error sequenceValue = groupedFrame[nonGroupingKey];
-                if (sequenceValue is any) {
-                    any|error val = f[nonGroupingKey];
-                    if val !is () {
-                        (<(any|error)[]> sequenceValue).push(val);
-                    }
-                }
-            }
+            addToGroupedFrame(groupedFrame, f, self.nonGroupingKeys, self.aggregations);
             f = check pf.process();
         }
+        completeGroupedFrame(groupedFrame, self.nonGroupingKeys, self.aggregations);
         _Frame|error? cFrame = self.collectFunc(groupedFrame);
         if (cFrame is error) {
             return prepareQueryBodyError(cFrame);
@@ -1072,6 +1076,103 @@ class _OrderTreeNode {
     }
 }
 
+type _OrderedFrame record {|
+    _Frame frame;
+    any[] directions;
+    any[] keys;
+    int seq;
+|};
+
+# Keeps the first `k` frames in the order given by the order keys, using a bounded max heap, so that
+# an order by followed by a constant limit does not need to hold all the frames.
+# Frames with equal order keys are kept in the order they were added, as in _OrderTreeNode.
+class _TopKFrames {
+    int k;
+    int seq = 0;
+    # max heap, the last frame in order is at the root.
+    _OrderedFrame[] heap = [];
+
+    function init(int k) {
+        self.k = k;
+    }
+
+    # adds a _Frame, dropping the last frame in order when there are more than `k` frames.
+    function add(_Frame f, any[] directions, any[] keys) {
+        _OrderedFrame orderedFrame = {frame: f, directions, keys, seq: self.seq};
+        self.seq += 1;
+        _OrderedFrame[] heap = self.heap;
+        if (heap.length() < self.k) {
+            heap.push(orderedFrame);
+            self.siftUp(heap.length() - 1);
+        } else if (self.isBefore(orderedFrame, heap[0])) {
+            heap[0] = orderedFrame;
+            self.siftDown(0, heap.length());
+        }
+    }
+
+    # returns the collected frames in order.
+    # + return - ordered frames.
+    function get() returns _Frame[] {
+        _OrderedFrame[] heap = self.heap;
+        int i = heap.length() - 1;
+        while (i > 0) {
+            _OrderedFrame last = heap[0];
+            heap[0] = heap[i];
+            heap[i] = last;
+            self.siftDown(0, i);
+            i -= 1;
+        }
+        _Frame[] orderedFrames = [];
+        foreach _OrderedFrame orderedFrame in heap {
+            orderedFrames.push(orderedFrame.frame);
+        }
+        return orderedFrames;
+    }
+
+    function siftUp(int index) {
+        _OrderedFrame[] heap = self.heap;
+        int i = index;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!self.isBefore(heap[parent], heap[i])) {
+                return;
+            }
+            _OrderedFrame temp = heap[parent];
+            heap[parent] = heap[i];
+            heap[i] = temp;
+            i = parent;
+        }
+    }
+
+    function siftDown(int index, int size) {
+        _OrderedFrame[] heap = self.heap;
+        int i = index;
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && self.isBefore(heap[largest], heap[left])) {
+                largest = left;
+            }
+            if (right < size && self.isBefore(heap[largest], heap[right])) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            _OrderedFrame temp = heap[largest];
+            heap[largest] = heap[i];
+            heap[i] = temp;
+            i = largest;
+        }
+    }
+
+    function isBefore(_OrderedFrame lhs, _OrderedFrame rhs) returns boolean {
+        int result = compareOrderKeys(lhs.directions, lhs.keys, rhs.keys);
+        return result < 0 || (result == 0 && lhs.seq < rhs.seq);
+    }
+}
+
 //Distinct error to identify errors thrown from query body
 public type Error distinct error;
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+
+/**
+ * Implementation of lang.query:aggregate(string, any|error, any|error).
+ * <p>
+ * Adds a value of a non-grouping key to the value aggregated so far, the same way the corresponding langlib
+ * function processes its arguments, so that applying the function to the aggregated value gives the same result as
+ * applying it to all the values.
+ * <p>
+ * An int sum which overflows does not panic here, since the group may never be used. The partial sum and the value
+ * which overflowed it are kept instead, so that the overflow error is raised when the sequence is summed.
+ *
+ * @since 2201.11.0
+ */
+public final class Aggregate {
+
+    private static final String SUM = "sum";
+    private static final String MAX = "max";
+    private static final String MIN = "min";
+    private static final String COUNT = "count";
+    private static final String FIRST = "first";
+
+    private Aggregate() {
+    }
+
+    public static Object aggregate(BString aggregation, Object aggregatedValue, Object value) {
+        String aggregationName = aggregation.getValue();
+        if (aggregatedValue == null) {
+            return switch (aggregationName) {
+                case SUM -> sum(null, value);
+                case COUNT -> 1L;
+                default -> value;
+            };
+        }
+        return switch (aggregationName) {
+            case SUM -> sum(aggregatedValue, value);
+            case MAX -> max(aggregatedValue, value);
+            case MIN -> min(aggregatedValue, value);
+            case COUNT -> (Long) aggregatedValue + 1;
+            case FIRST -> aggregatedValue;
+            default -> value;
+        };
+    }
+
+    private static Object sum(Object aggregatedValue, Object value) {
+        // Each sum starts from zero, as in the langlib functions.
+        if (value instanceof Double doubleValue) {
+            return (aggregatedValue == null ? 0 : (Double) aggregatedValue) + doubleValue;
+        }
+        if (value instanceof BDecimal decimalValue) {
+            BDecimal sum = aggregatedValue == null ? ValueCreator.createDecimalValue(BigDecimal.ZERO)
+                    : (BDecimal) aggregatedValue;
+            return sum.add(decimalValue);
+        }
+        if (aggregatedValue instanceof BArray) {
+            // the sum has already overflowed
+            return aggregatedValue;
+        }
+        long sum = aggregatedValue == null ? 0 : (Long) aggregatedValue;
+        long longValue = ((Number) value).longValue();
+        try {
+            return Math.addExact(sum, longValue);
+        } catch (ArithmeticException e) {
+            return ValueCreator.createArrayValue(new long[]{sum, longValue});
+        }
+    }
+
+    private static Object max(Object aggregatedValue, Object value) {
+        if (value instanceof Double doubleValue) {
+            return Math.max(doubleValue, (Double) aggregatedValue);
+        }
+        if (value instanceof BDecimal decimalValue) {
+            return decimalValue.value().compareTo(((BDecimal) aggregatedValue).value()) >= 0 ? value
+                    : aggregatedValue;
+        }
+        return ((Number) value).longValue() >= ((Number) aggregatedValue).longValue() ? value : aggregatedValue;
+    }
+
+    private static Object min(Object aggregatedValue, Object value) {
+        if (value instanceof Double doubleValue) {
+            return Math.min(doubleValue, (Double) aggregatedValue);
+        }
+        if (value instanceof BDecimal decimalValue) {
+            return decimalValue.value().compareTo(((BDecimal) aggregatedValue).value()) <= 0 ? value
+                    : aggregatedValue;
+        }
+        return ((Number) value).longValue() <= ((Number) aggregatedValue).longValue() ? value : aggregatedValue;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+/**
+ * Implementation of lang.query:compareOrderKeys(any[], any[], any[]).
+ * <p>
+ * Order keys are compared the same way as lang.array:sort orders them, so that the first k frames of an order by
+ * are the same as the first k frames of the fully ordered frames.
+ *
+ * @since 2201.11.0
+ */
+public final class CompareOrderKeys {
+
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private CompareOrderKeys() {
+    }
+
+    public static long compareOrderKeys(BArray directions, BArray lhsKeys, BArray rhsKeys) {
+        int size = directions.size();
+        for (int i = 0; i < size; i++) {
+            int result = (Boolean) directions.get(i)
+                    ? ValueComparisonUtils.compareValues(lhsKeys.get(i), rhsKeys.get(i), ASCENDING)
+                    : ValueComparisonUtils.compareValues(rhsKeys.get(i), lhsKeys.get(i), DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
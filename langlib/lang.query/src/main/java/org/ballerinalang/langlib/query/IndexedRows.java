@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Implementation of lang.query:getIndexedRows(table, string, string, anydata).
+ *
+ * @since 2201.11.0
+ */
+public final class IndexedRows {
+
+    private IndexedRows() {
+    }
+
+    public static BTable<?, ?> getIndexedRows(BTable<?, ?> tbl, BString fieldName, BString operator, Object value) {
+        if (!(tbl instanceof TableValueImpl<?, ?> tableValue)) {
+            return tbl;
+        }
+        return tableValue.getIndexedRows(fieldName, operator.getValue(), value);
+    }
+}
@@ -28,7 +28,6 @@ import java.util.regex.Matcher;
 import static org.ballerinalang.langlib.regexp.RegexUtil.GROUPS_AS_SPAN_ARRAY_TYPE;
 import static org.ballerinalang.langlib.regexp.RegexUtil.checkIndexWithinRange;
 import static org.ballerinalang.langlib.regexp.RegexUtil.getSurrogateAdjustedStartIndex;
-import static org.ballerinalang.langlib.regexp.RegexUtil.getSurrogatePositions;
 
 /**
  * Native implementation of lang.regexp:find(string).
@@ -42,30 +41,28 @@ public final class Find {
 
     public static BArray find(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, (int) startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
         if (matcher.find(adjustedStartIndex)) {
-            return RegexUtil.getGroupZeroAsSpan(str, matcher, surrogates);
+            return RegexUtil.getGroupZeroAsSpan(str, matcher);
         }
         return null;
     }
 
     public static BArray findGroups(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, (int) startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
         BArray resultArray = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
         matcher.region(adjustedStartIndex, str.getValue().length());
         if (matcher.find()) {
             if (matcher.groupCount() != 0) {
-                BArray spanArr = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher, surrogates);
+                BArray spanArr = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher);
                 for (int i = 0; i < spanArr.getLength(); i++) {
                     resultArray.append(spanArr.get(i));
                 }
             } else {
-                resultArray.append(RegexUtil.getGroupZeroAsSpan(str, matcher, surrogates));
+                resultArray.append(RegexUtil.getGroupZeroAsSpan(str, matcher));
             }
         }
         if (resultArray.getLength() == 0) {
@@ -77,12 +74,11 @@ public final class Find {
     public static BArray findAll(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, (int) startIndex);
         BArray resultArray = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
         matcher.region(adjustedStartIndex, str.getValue().length());
         while (matcher.find()) {
-            resultArray.append(RegexUtil.getGroupZeroAsSpan(str, matcher, surrogates));
+            resultArray.append(RegexUtil.getGroupZeroAsSpan(str, matcher));
         }
         if (resultArray.getLength() == 0) {
             return null;
@@ -93,12 +89,11 @@ public final class Find {
     public static BArray findAllGroups(BRegexpValue regExp, BString str, long startIndex) {
         checkIndexWithinRange(str, startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex((int) startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, (int) startIndex);
         matcher.region(adjustedStartIndex, str.getValue().length());
         BArray groupArray = ValueCreator.createArrayValue(RegexUtil.GROUPS_ARRAY_TYPE);
         while (matcher.find()) {
-            BArray group = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher, surrogates);
+            BArray group = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher);
             if (group.getLength() != 0) {
                 groupArray.append(group);
             }
@@ -26,7 +26,6 @@ import java.util.regex.Matcher;
 
 import static org.ballerinalang.langlib.regexp.RegexUtil.checkIndexWithinRange;
 import static org.ballerinalang.langlib.regexp.RegexUtil.getSurrogateAdjustedStartIndex;
-import static org.ballerinalang.langlib.regexp.RegexUtil.getSurrogatePositions;
 
 /**
  * Native implementation of lang.regexp:matches(string).
@@ -41,11 +40,10 @@ public final class Matches {
     public static BArray matchAt(BRegexpValue regExp, BString str, int startIndex) {
         checkIndexWithinRange(str, startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex(startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, startIndex);
         matcher.region(adjustedStartIndex, str.getValue().length());
         if (matcher.matches()) {
-            return RegexUtil.getGroupZeroAsSpan(str, matcher, surrogates);
+            return RegexUtil.getGroupZeroAsSpan(str, matcher);
         }
         return null;
     }
@@ -53,12 +51,11 @@ public final class Matches {
     public static BArray matchGroupsAt(BRegexpValue regExp, BString str, int startIndex) {
         checkIndexWithinRange(str, startIndex);
         Matcher matcher = RegexUtil.getMatcher(regExp, str);
-        int[] surrogates = getSurrogatePositions(str);
-        int adjustedStartIndex = getSurrogateAdjustedStartIndex(startIndex, surrogates);
+        int adjustedStartIndex = getSurrogateAdjustedStartIndex(str, startIndex);
         matcher.region(adjustedStartIndex, str.getValue().length());
         BArray resultArray = null;
         if (matcher.matches()) {
-            resultArray = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher, surrogates);
+            resultArray = RegexUtil.getMatcherGroupsAsSpanArr(str, matcher);
         }
         if (resultArray == null || resultArray.getLength() == 0) {
             return null;
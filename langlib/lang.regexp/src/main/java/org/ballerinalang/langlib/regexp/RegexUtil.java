@@ -27,7 +27,6 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
@@ -64,66 +63,48 @@ public final class RegexUtil {
         }
     }
 
-    static int[] getSurrogatePositions(BString str) {
+    static int getSurrogateAdjustedStartIndex(BString str, int startIndex) {
         if (str instanceof NonBmpStringValue nonBmpStringValue) {
-            return nonBmpStringValue.getSurrogates();
+            return nonBmpStringValue.getCharOffset(startIndex);
         }
-        return new int[0];
+        return startIndex;
     }
 
-    static int getSurrogateAdjustedStartIndex(int startIndex, int[] surrogates) {
-        int newStartIndex = startIndex;
-        for (int surrogate : surrogates) {
-            if (startIndex != 0 && surrogate < startIndex) {
-                newStartIndex++;
-            } else if (surrogate > startIndex) {
-                break;
-            }
+    static int getCodePointIndex(BString str, int charOffset) {
+        if (str instanceof NonBmpStringValue nonBmpStringValue) {
+            return nonBmpStringValue.getCodePointIndex(charOffset);
         }
-        return newStartIndex;
+        return charOffset;
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
-        return pattern.matcher(inputStr);
+        return getPattern(regexpVal, Pattern.UNICODE_CHARACTER_CLASS).matcher(inputStr);
     }
 
-    static BArray getGroupZeroAsSpan(BString str, Matcher matcher, int[] surrogates) {
+    static Pattern getPattern(BRegexpValue regexpVal, int flags) {
+        return ((RegExpValue) regexpVal).getPattern(flags);
+    }
+
+    static BArray getGroupZeroAsSpan(BString str, Matcher matcher) {
         BArray resultTuple = ValueCreator.createTupleValue(SPAN_AS_TUPLE_TYPE);
-        int[] adjustedPositions = getAdjustedPositions(str, matcher, surrogates);
+        BString subString = StringUtils.fromString(matcher.group());
+        int[] adjustedPositions = getAdjustedPositions(str, matcher.start(), subString);
         resultTuple.add(0, adjustedPositions[0]);
         resultTuple.add(1, adjustedPositions[1]);
-        resultTuple.add(2, StringUtils.fromString(matcher.group()));
+        resultTuple.add(2, subString);
         return resultTuple;
     }
 
-    static int[] getAdjustedPositions(BString str, Matcher matcher, int[] surrogates) {
-        BString subString = StringUtils.fromString(matcher.group());
-        return getAdjustedPositions(str, matcher.start(), subString, surrogates);
-    }
-
-    static int[] getAdjustedPositions(BString str, int startIndex, BString subString, int[] surrogates) {
-        int newStartIndex = startIndex;
-        int prevSurrogate = 0;
-        for (int surrogate : surrogates) {
-            long offset = str.indexOf(subString, prevSurrogate);
-            prevSurrogate = surrogate;
-            if (offset != surrogate && surrogate < startIndex) {
-                newStartIndex--;
-            } else if (surrogate > startIndex) {
-                break;
-            }
-        }
+    static int[] getAdjustedPositions(BString str, int startIndex, BString subString) {
+        // Matcher positions are UTF-16 char offsets, whereas the spans are in code points.
+        int newStartIndex = getCodePointIndex(str, startIndex);
         int newEndIndex = newStartIndex + subString.length();
         return new int[]{newStartIndex, newEndIndex};
     }
 
-    static BArray getMatcherGroupsAsSpanArr(BString str, Matcher matcher, int[] surrogates) {
+    static BArray getMatcherGroupsAsSpanArr(BString str, Matcher matcher) {
         BArray group = ValueCreator.createArrayValue(GROUPS_AS_SPAN_ARRAY_TYPE);
-        BArray span = getGroupZeroAsSpan(str, matcher, surrogates);
+        BArray span = getGroupZeroAsSpan(str, matcher);
         group.append(span);
         if (matcher.groupCount() == 0) {
             return group;
@@ -135,7 +116,7 @@ public final class RegexUtil {
             }
             BArray resultTuple = ValueCreator.createTupleValue(SPAN_AS_TUPLE_TYPE);
             BString subString = StringUtils.fromString(matcher.group(i));
-            int[] adjustedPositions = getAdjustedPositions(str, matcherStart, subString, surrogates);
+            int[] adjustedPositions = getAdjustedPositions(str, matcherStart, subString);
             resultTuple.add(0, adjustedPositions[0]);
             resultTuple.add(1, adjustedPositions[1]);
             resultTuple.add(2, subString);
@@ -22,8 +22,6 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
-import io.ballerina.runtime.internal.values.RegExpValue;
 
 /**
  * Native implementation of lang.regexp:split(string).
@@ -36,10 +34,7 @@ public final class Split {
     }
 
     public static BArray split(BRegexpValue regExp, BString str) {
-        String originalString = str.getValue();
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regExp);
-        String regex = StringUtils.getStringValue(translatedRegExpVal);
-        String[] splitStrArr = originalString.split(regex, -1);
+        String[] splitStrArr = RegexUtil.getPattern(regExp, 0).split(str.getValue(), -1);
         return StringUtils.fromStringArray(splitStrArr);
     }
 }
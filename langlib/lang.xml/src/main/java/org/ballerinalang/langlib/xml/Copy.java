@@ -22,7 +22,7 @@ import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 /**
  * Make a deep copy of an XML.
@@ -42,7 +42,7 @@ public final class Copy {
 
     public static BXml copy(Strand strand, BXml xml) {
         try {
-            return (BXml) xml.copy(new HashMap<>());
+            return (BXml) xml.copy(new IdentityHashMap<>());
         } catch (Throwable e) {
             ErrorHelper.handleXMLException(OPERATION, e);
         }
@@ -85,6 +85,7 @@ public class LangLibRegexpTest {
                 "testModuleLevelPatterns",
                 "testTranslatingDiffNodesInCharClass",
                 "testRegexpWithUnicodeChars",
+                "testRepeatedRegexpEvaluation",
         };
     }
 
@@ -480,7 +480,9 @@ public class LangLibValueTest {
                 { "testFromJsonStringWithTypeIntArray" },
                 { "testFromJsonStringWithTypeWithInferredArgument" },
                 { "testFromJsonStringWithTypeRecordWithXML" },
-                { "testFromJsonWithTypeArray" }
+                { "testFromJsonWithTypeArray" },
+                { "testFromJsonStringWithTypeRecordDefaults" },
+                { "testFromJsonStringWithTypeRecordMissingRequiredField" }
         };
     }
 
@@ -2728,6 +2728,26 @@ function testRegexpWithUnicodeChars() {
     assertTrue(resJ5 is ());
 }
 
+function testRepeatedRegexpEvaluation() {
+    string[] lines = ["a=1", "b=22", "c=333"];
+    foreach int i in 0 ..< 3 {
+        foreach string line in lines {
+            regexp:Span? resultSpan = regexp:find(re `[0-9]+`, line);
+            if resultSpan is () {
+                panic error("expected a match in '" + line + "'");
+            }
+            assertEquality(line.substring(2), resultSpan.substring());
+            assertEquality(["", line.substring(2)], re `[a-z]=`.split(line));
+        }
+    }
+
+    var regExpr = re `\s`;
+    assertEquality(["a", "b", "c"], regExpr.split("a b\tc"));
+    assertEquality(2, regExpr.findAll("a b\tc").length());
+    assertEquality(["a", "b", "c"], regExpr.split("a b\tc"));
+    assertTrue(regExpr.isFullMatch(" "));
+}
+
 function assertEquality(any|error expected, any|error actual) {
     if expected is anydata && actual is anydata && expected == actual {
         return;
@@ -500,6 +500,61 @@ function testFromJsonStringWithTypeWithInferredArgument() {
     assertEquality(a is error, true);
 }
 
+type RecordWithDefaults record {
+    string name;
+    int count = 10;
+    string label = "default";
+    int[] values = [1, 2];
+    int id?;
+};
+
+type RecordWithDefaultsParent record {
+    RecordWithDefaults inner;
+    string tag = "parent";
+};
+
+function testFromJsonStringWithTypeRecordDefaults() {
+    string str = "{\"name\":\"a\",\"count\":3,\"extra\":true}";
+    RecordWithDefaults r = checkpanic str.fromJsonStringWithType();
+    assertEquality(r.name, "a");
+    assertEquality(r.count, 3);
+    assertEquality(r.label, "default");
+    assertEquality(r.values, [1, 2]);
+    assertEquality(r.hasKey("id"), false);
+    assertEquality(r["extra"], true);
+
+    str = "{\"inner\":{\"name\":\"b\",\"label\":\"given\"}}";
+    RecordWithDefaultsParent p = checkpanic str.fromJsonStringWithType();
+    assertEquality(p.tag, "parent");
+    assertEquality(p.inner.name, "b");
+    assertEquality(p.inner.count, 10);
+    assertEquality(p.inner.label, "given");
+    assertEquality(p.inner.values, [1, 2]);
+}
+
+function testFromJsonStringWithTypeRecordMissingRequiredField() {
+    string str = "{\"age\":35}";
+    Student3|error student = str.fromJsonStringWithType();
+    assertEquality(student is error, true);
+    error err = <error>student;
+    assertEquality(err.message(), "{ballerina/lang.value}ConversionError");
+    string message = <string>checkpanic err.detail()["message"];
+    assertTrue(message.startsWith("missing required field 'name' of type 'string' in record 'Student3'"));
+
+    str = "{\"inner\":{\"count\":1},\"tag\":\"t\"}";
+    RecordWithDefaultsParent|error parent = str.fromJsonStringWithType();
+    assertEquality(parent is error, true);
+    message = <string>checkpanic (<error>parent).detail()["message"];
+    assertTrue(message.startsWith("missing required field 'name' of type 'string' in record 'RecordWithDefaults'"));
+
+    str = "{\"tag\":\"t\"}";
+    parent = str.fromJsonStringWithType();
+    assertEquality(parent is error, true);
+    message = <string>checkpanic (<error>parent).detail()["message"];
+    assertTrue(message.startsWith(
+            "missing required field 'inner' of type 'RecordWithDefaults' in record 'RecordWithDefaultsParent'"));
+}
+
 type OpenRecordWithUnionTarget record {|
     string|decimal...;
 |};
@@ -42,6 +42,8 @@ public enum JVMValueType {
     BTYPE_SERVICE("BServiceType"),
     BMP_STRING(INTERNAL_VALUE_PREFIX + "BmpStringValue"),
     NON_BMP_STRING(INTERNAL_VALUE_PREFIX + "NonBmpStringValue"),
+    BUFFERED_BMP_STRING(INTERNAL_VALUE_PREFIX + "BufferedBmpStringValue"),
+    BUFFERED_NON_BMP_STRING(INTERNAL_VALUE_PREFIX + "BufferedNonBmpStringValue"),
     DECIMAL(INTERNAL_VALUE_PREFIX + "DecimalValue"),
     OBJECT_VALUE(INTERNAL_VALUE_PREFIX + "ObjectValue"),
     ARRAY_VALUE(INTERNAL_VALUE_PREFIX + "ArrayValue"),
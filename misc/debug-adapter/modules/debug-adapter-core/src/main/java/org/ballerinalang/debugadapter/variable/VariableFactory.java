@@ -149,6 +149,8 @@ public final class VariableFactory {
             return new BDecimal(context, varName, value);
         } else if (valueTypeName.equals(JVMValueType.BMP_STRING.getString())
                 || valueTypeName.equals(JVMValueType.NON_BMP_STRING.getString())
+                || valueTypeName.equals(JVMValueType.BUFFERED_BMP_STRING.getString())
+                || valueTypeName.equals(JVMValueType.BUFFERED_NON_BMP_STRING.getString())
                 || valueTypeName.equals(JVMValueType.J_STRING.getString())) {
             return new BString(context, varName, value);
         } else if (valueTypeName.contains(JVMValueType.ARRAY_VALUE.getString())) {
@@ -150,8 +150,14 @@ public final class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
-            if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
-                    && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
+            String typeName = stringRef.referenceType().name();
+            if (typeName.equals(JVMValueType.BUFFERED_BMP_STRING.getString())
+                    || typeName.equals(JVMValueType.BUFFERED_NON_BMP_STRING.getString())) {
+                // Strings built by concatenation do not hold their content in the value field.
+                return UNKNOWN_VALUE;
+            }
+            if (!typeName.equals(JVMValueType.BMP_STRING.getString())
+                    && !typeName.equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
                 // double quotes.
                 return removeRedundantQuotes(stringRef.toString());
@@ -23,6 +23,7 @@ import org.ballerinalang.debugadapter.variable.BVariableType;
 
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
 import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringFrom;
+import static org.ballerinalang.debugadapter.variable.VariableUtils.getStringValue;
 
 /**
  * Ballerina string variable type.
@@ -38,8 +39,13 @@ public class BString extends BSimpleVariable {
     @Override
     public String computeValue() {
         try {
+            String stringValue = getStringFrom(jvmValue);
+            if (UNKNOWN_VALUE.equals(stringValue)) {
+                // Strings built by concatenation are read from their concat buffer through the runtime.
+                stringValue = getStringValue(context, jvmValue);
+            }
             // Add double quotes to the beginning and end of the computed string value.
-            return SYMBOL_DOUBLE_QUOTE + getStringFrom(jvmValue) + SYMBOL_DOUBLE_QUOTE;
+            return SYMBOL_DOUBLE_QUOTE + stringValue + SYMBOL_DOUBLE_QUOTE;
         } catch (Exception ignored) {
             return UNKNOWN_VALUE;
         }
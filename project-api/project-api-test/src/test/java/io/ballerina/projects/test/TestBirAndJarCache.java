@@ -21,6 +21,7 @@ import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.EmitResult;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -32,8 +33,10 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.internal.model.Target;
+import io.ballerina.projects.repos.BuildProjectCompilationCache;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -41,7 +44,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.stream.Stream;
 
 import static io.ballerina.projects.util.ProjectConstants.BLANG_COMPILED_JAR_EXT;
@@ -124,6 +130,122 @@ public class TestBirAndJarCache {
         Assert.assertFalse(Files.exists(cacheDir.resolve(jBallerinaBackend.targetPlatform().code())));
     }
 
+    @Test(description = "tests reusing the cached modules whose inputs have not changed")
+    public void testModuleCacheKeys() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-module-cache" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation_simple").toFile(),
+                projectPath.toFile());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+
+        // 1) The first build compiles all the modules
+        BuildProjectCompilationCache compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 0);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 0);
+
+        // 2) Rebuilding the unchanged project loads all the modules from the cache
+        compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 4);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 0);
+
+        // 3) Changing the storage module recompiles it along with the modules that import it
+        Files.writeString(projectPath.resolve("modules").resolve("storage").resolve("db.bal"),
+                "public function initDatabase() {\n    int _ = 20;\n}\n");
+        compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 1);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 3);
+    }
+
+    @Test(description = "tests recompiling the cached modules when a platform library changes")
+    public void testModuleCacheKeysWithPlatformLibraries() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-module-cache-platform-libs" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation_simple").toFile(),
+                projectPath.toFile());
+        Path manifestPath = projectPath.resolve(ProjectConstants.BALLERINA_TOML);
+        Files.writeString(manifestPath, Files.readString(manifestPath)
+                .replace("path = \"/user/foo/libs/toml4j.jar\"", "path = \"libs/toml4j.jar\""));
+        Path jarPath = projectPath.resolve("libs").resolve("toml4j.jar");
+        writeJar(jarPath, "toml4j/Toml.class");
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+
+        // 1) Rebuilding the unchanged project loads all the modules from the cache
+        compileProject(projectPath, buildOptions);
+        BuildProjectCompilationCache compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 4);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 0);
+
+        // 2) Replacing the platform library at the same path recompiles all the modules
+        writeJar(jarPath, "toml4j/TomlWriter.class");
+        compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 0);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 4);
+
+        // 3) Adding a platform dependency recompiles all the modules
+        Files.writeString(manifestPath, Files.readString(manifestPath)
+                + "\n[[platform.java17.dependency]]\npath = \"/user/foo/libs/snakeyaml.jar\"\n");
+        compilationCache = compileProject(projectPath, buildOptions);
+        Assert.assertEquals(compilationCache.moduleCacheHits(), 0);
+        Assert.assertEquals(compilationCache.moduleCacheMisses(), 4);
+    }
+
+    private static void writeJar(Path jarPath, String entryName) throws IOException {
+        Files.createDirectories(jarPath.getParent());
+        try (JarOutputStream jarOutputStream = new JarOutputStream(Files.newOutputStream(jarPath))) {
+            jarOutputStream.putNextEntry(new JarEntry(entryName));
+            jarOutputStream.closeEntry();
+        }
+    }
+
+    @Test(description = "tests reusing the executable jar when none of its jars have changed")
+    public void testExecutableJarCache() throws IOException {
+        Path projectPath = Files.createTempDirectory("test-executable-cache" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("test_proj_pkg_compilation_simple").toFile(),
+                projectPath.toFile());
+        BuildOptions buildOptions = BuildOptions.builder().setEnableCache(true).build();
+        Path executablePath = projectPath.resolve("myproject.jar");
+        Path cachedExecutablePath = projectPath.resolve("target").resolve(ProjectConstants.CACHES_DIR_NAME)
+                .resolve("executable").resolve("myproject.jar");
+
+        // 1) The first build assembles the executable and caches it
+        emitExecutable(projectPath, buildOptions, executablePath);
+        Assert.assertTrue(Files.exists(cachedExecutablePath));
+        FileTime cachedTime = Files.getLastModifiedTime(cachedExecutablePath);
+
+        // 2) Rebuilding the unchanged project copies the cached executable instead of assembling it again
+        Files.delete(executablePath);
+        emitExecutable(projectPath, buildOptions, executablePath);
+        Assert.assertEquals(Files.getLastModifiedTime(cachedExecutablePath), cachedTime);
+        Assert.assertEquals(Files.readAllBytes(executablePath), Files.readAllBytes(cachedExecutablePath));
+
+        // 3) Touching the module jars without changing their content still reuses the cached executable
+        FileTime touchedTime = FileTime.fromMillis(System.currentTimeMillis() + 60_000);
+        try (Stream<Path> paths = Files.walk(projectPath.resolve("target").resolve(ProjectConstants.CACHES_DIR_NAME))) {
+            for (Path jarPath : paths.filter(path -> path.toString().endsWith(".jar")
+                    && !path.equals(cachedExecutablePath)).toList()) {
+                Files.setLastModifiedTime(jarPath, touchedTime);
+            }
+        }
+        emitExecutable(projectPath, buildOptions, executablePath);
+        Assert.assertEquals(Files.getLastModifiedTime(cachedExecutablePath), cachedTime);
+    }
+
+    private static void emitExecutable(Path projectPath, BuildOptions buildOptions, Path executablePath) {
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+        Assert.assertTrue(emitResult.successful());
+    }
+
+    private static BuildProjectCompilationCache compileProject(Path projectPath, BuildOptions buildOptions) {
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+        return (BuildProjectCompilationCache) project.projectEnvironmentContext()
+                .getService(CompilationCache.class);
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
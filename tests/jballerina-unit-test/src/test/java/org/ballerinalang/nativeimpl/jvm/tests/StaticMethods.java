@@ -40,6 +40,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BMapInitialValueEntry;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.TypeChecker;
@@ -824,4 +825,19 @@ public final class StaticMethods {
     public static Object getResourceMethod(BObject service, BArray path) {
         return 1000;
     }
+
+    public static void addTableIndex(BTable<?, ?> table, BString fieldName, boolean sorted) {
+        table.addIndex(fieldName, sorted);
+    }
+
+    public static BError createErrorSubclass(BString message) {
+        return new CustomErrorValue(message);
+    }
+
+    private static class CustomErrorValue extends ErrorValue {
+
+        CustomErrorValue(BString message) {
+            super(message);
+        }
+    }
 }
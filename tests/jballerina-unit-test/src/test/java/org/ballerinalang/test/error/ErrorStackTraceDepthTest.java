@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.error;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.values.ErrorValue;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Test cases for limiting the number of Ballerina frames captured in the stack trace of an error.
+ *
+ * @since 2201.11.0
+ */
+public class ErrorStackTraceDepthTest {
+
+    private static final int NESTING = 5;
+    private static final int DEPTH = 3;
+
+    private CompileResult compileResult;
+    private int originalDepth;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/error/error_stack_trace_depth.bal");
+        originalDepth = (int) invokeDepthMethod("getStackTraceDepth", new Class<?>[0]);
+    }
+
+    @Test(dataProvider = "errorFunctions")
+    public void testStackTraceUpToDepth(String functionName) {
+        BError fullError = createError(functionName, -1);
+        BError limitedError = createError(functionName, DEPTH);
+
+        StackTraceElement[] fullStackTrace = fullError.getStackTrace();
+        StackTraceElement[] limitedStackTrace = limitedError.getStackTrace();
+        Assert.assertTrue(fullStackTrace.length > DEPTH);
+        Assert.assertEquals(limitedStackTrace, Arrays.copyOf(fullStackTrace, DEPTH));
+        // The construction frames of the error value are not part of the trace.
+        Assert.assertEquals(limitedStackTrace[0].getMethodName(), functionName);
+
+        String[] fullLines = fullError.getPrintableStackTrace().split("\n");
+        String[] limitedLines = limitedError.getPrintableStackTrace().split("\n");
+        Assert.assertEquals(limitedLines, Arrays.copyOf(fullLines, DEPTH + 1));
+    }
+
+    @DataProvider
+    public Object[] errorFunctions() {
+        return new Object[]{
+                "createNestedError",
+                "createNestedDistinctError",
+                "createNestedJavaError"
+        };
+    }
+
+    @Test
+    public void testLangLibStackTraceUpToDepth() {
+        setStackTraceDepth(-1);
+        BArray fullStackTrace = (BArray) BRunUtil.invoke(compileResult, "getStackTraceOfNestedError",
+                new Object[]{NESTING});
+        setStackTraceDepth(DEPTH);
+        BArray limitedStackTrace = (BArray) BRunUtil.invoke(compileResult, "getStackTraceOfNestedError",
+                new Object[]{NESTING});
+
+        Assert.assertTrue(fullStackTrace.size() > DEPTH);
+        Assert.assertEquals(limitedStackTrace.size(), DEPTH);
+        for (int i = 0; i < DEPTH; i++) {
+            Assert.assertEquals(limitedStackTrace.getBString(i).getValue(), fullStackTrace.getBString(i).getValue());
+        }
+    }
+
+    @Test
+    public void testStackTraceOfCauseUpToDepth() {
+        BError fullError = createError("createNestedErrorWithCause", -1);
+        BError limitedError = createError("createNestedErrorWithCause", DEPTH);
+
+        StackTraceElement[] fullCauseStackTrace = fullError.getCause().getStackTrace();
+        StackTraceElement[] limitedCauseStackTrace = limitedError.getCause().getStackTrace();
+        Assert.assertTrue(fullCauseStackTrace.length > DEPTH);
+        Assert.assertEquals(limitedCauseStackTrace, Arrays.copyOf(fullCauseStackTrace, DEPTH));
+        Assert.assertEquals(limitedCauseStackTrace[0].getMethodName(), "createCause");
+        Assert.assertEquals(limitedError.getStackTrace(), Arrays.copyOf(fullError.getStackTrace(), DEPTH));
+    }
+
+    @Test(dataProvider = "errorFunctions")
+    public void testEmptyStackTraceWithZeroDepth(String functionName) {
+        BError error = createError(functionName, 0);
+        Assert.assertEquals(error.getStackTrace().length, 0);
+        Assert.assertFalse(error.getPrintableStackTrace().contains("\n\tat "));
+    }
+
+    private BError createError(String functionName, int depth) {
+        setStackTraceDepth(depth);
+        return (BError) BRunUtil.invoke(compileResult, functionName, new Object[]{NESTING});
+    }
+
+    // The depth is read once when the runtime starts, so it is changed through the package-private setter.
+    private static void setStackTraceDepth(int depth) {
+        invokeDepthMethod("setStackTraceDepth", new Class<?>[]{int.class}, depth);
+    }
+
+    private static Object invokeDepthMethod(String name, Class<?>[] parameterTypes, Object... args) {
+        try {
+            Method method = ErrorValue.class.getDeclaredMethod(name, parameterTypes);
+            method.setAccessible(true);
+            return method.invoke(null, args);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterMethod
+    public void resetStackTraceDepth() {
+        setStackTraceDepth(originalDepth);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
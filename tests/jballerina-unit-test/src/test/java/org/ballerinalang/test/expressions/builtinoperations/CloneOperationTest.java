@@ -146,7 +146,8 @@ public class CloneOperationTest {
                 "cloneStringArray", "cloneFloatArray", "cloneUnionArray", "cloneUnion", "cloneTable", "cloneMap",
                 "cloneNilableInt", "cloneReturnValues", "cloneArrayOfArrays", "cloneTuple", "cloneAnydataRecord",
                 "cloneAnydata", "cloneFrozenAnydata", "cloneNullJson", "cloneNilAnydata", "testCloneArrayWithError",
-                "testCloneMapWithError", "cloneRecordWithArrayField", "cloneArrayWithRecordElement"
+                "testCloneMapWithError", "cloneRecordWithArrayField", "cloneArrayWithRecordElement",
+                "cloneSelfReferencingArray", "cloneImmutableValues"
         };
     }
 
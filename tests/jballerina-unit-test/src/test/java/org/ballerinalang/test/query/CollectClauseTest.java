@@ -57,7 +57,8 @@ public class CollectClauseTest {
                 "testMultipleCollect",
                 "testDoClause",
                 "testErrorSeq",
-                "testErrorCompletion"
+                "testErrorCompletion",
+                "testCollectWithAggregatedNonGroupingKeys"
         };
     }
 
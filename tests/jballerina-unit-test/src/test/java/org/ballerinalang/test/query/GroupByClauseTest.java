@@ -213,7 +213,9 @@ public class GroupByClauseTest {
                 "testGroupByExpressionAndSelectWithNonGroupingKeys9",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys10",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys12",
-                "testGroupByExpressionAndSelectWithNonGroupingKeys11"
+                "testGroupByExpressionAndSelectWithNonGroupingKeys11",
+                "testGroupByWithAggregatedNonGroupingKeys",
+                "testGroupByWithOverflowingIntSum"
         };
     }
 
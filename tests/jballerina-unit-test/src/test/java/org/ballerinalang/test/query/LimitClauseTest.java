@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BMap;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
+import org.ballerinalang.test.exceptions.BLangTestException;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -152,6 +153,25 @@ public class LimitClauseTest {
         Assert.assertTrue((Boolean) values);
     }
 
+    @Test(description = "Test limit clause followed by a where clause")
+    public void testLimitClauseBeforeWhereClause() {
+        Object values = BRunUtil.invoke(result, "testLimitClauseBeforeWhereClause");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test limit clause which depends on the query variables")
+    public void testLimitClauseEvaluatedPerRow() {
+        Object values = BRunUtil.invoke(result, "testLimitClauseEvaluatedPerRow");
+        Assert.assertTrue((Boolean) values);
+    }
+
+    @Test(description = "Test limit clause with a limit less than one",
+            expectedExceptions = BLangTestException.class,
+            expectedExceptionsMessageRegExp = ".*limit cannot be < 1.*")
+    public void testInvalidLimitInQueryExpr() {
+        BRunUtil.invoke(result, "testInvalidLimitInQueryExpr");
+    }
+
     @Test(description = "Test limit clause with incompatible types")
     public void testNegativeScenarios() {
         negativeResult = BCompileUtil.compile("test-src/query/limit-clause-negative.bal");
@@ -257,6 +257,11 @@ public class OrderByClauseTest {
         BRunUtil.invoke(result, "testQueryExprWithOrderByClauseWithArrayKey");
     }
 
+    @Test(description = "Test query expr with order by clause followed by a constant limit")
+    public void testQueryExprWithOrderByClauseAndConstantLimit() {
+        BRunUtil.invoke(result, "testQueryExprWithOrderByClauseAndConstantLimit");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
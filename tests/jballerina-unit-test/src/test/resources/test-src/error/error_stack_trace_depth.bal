@@ -0,0 +1,64 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+type CustomError distinct error<record {|int code;|}>;
+
+function createNestedError(int nesting) returns error {
+    if nesting > 0 {
+        return createNestedError(nesting - 1);
+    }
+    return error("nested error", code = 1);
+}
+
+function createNestedDistinctError(int nesting) returns error {
+    if nesting > 0 {
+        return createNestedDistinctError(nesting - 1);
+    }
+    return error CustomError("distinct error", code = 2);
+}
+
+function createNestedErrorWithCause(int nesting) returns error {
+    if nesting > 0 {
+        return createNestedErrorWithCause(nesting - 1);
+    }
+    error cause = createCause(3);
+    return error("error with cause", cause);
+}
+
+function createCause(int nesting) returns error {
+    if nesting > 0 {
+        return createCause(nesting - 1);
+    }
+    return error("cause");
+}
+
+function createNestedJavaError(int nesting) returns error {
+    if nesting > 0 {
+        return createNestedJavaError(nesting - 1);
+    }
+    return createErrorSubclass("java error");
+}
+
+function createErrorSubclass(string message) returns error = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.StaticMethods"
+} external;
+
+function getStackTraceOfNestedError(int nesting) returns string[] {
+    error e = createNestedError(nesting);
+    return from var frame in e.stackTrace() select frame.toString();
+}
@@ -427,6 +427,40 @@ function cloneCyclicMapsArray() returns [any, any] {
     return [xx, yy];
 }
 
+function cloneSelfReferencingArray() {
+    anydata[] arr = [1, "a", [2, 3]];
+    arr.push(arr);
+    anydata[] copy = arr.clone();
+    test:assertTrue(copy !== arr);
+    test:assertTrue(copy[3] === copy);
+    test:assertTrue(copy[2] !== arr[2]);
+    test:assertTrue(copy[2] == arr[2]);
+
+    int[] x = [1, 2];
+    int[] y = [1, 2];
+    anydata[] sharedArr = [x, y, x];
+    anydata[] sharedCopy = sharedArr.clone();
+    test:assertTrue(sharedCopy[0] === sharedCopy[2]);
+    test:assertTrue(sharedCopy[0] !== sharedCopy[1]);
+}
+
+function cloneImmutableValues() {
+    int[] & readonly frozenArr = [1, 2];
+    test:assertTrue(frozenArr.clone() === frozenArr);
+    test:assertTrue(frozenArr.cloneReadOnly() === frozenArr);
+
+    anydata[] arr = [frozenArr, [3, 4]];
+    anydata[] copy = arr.clone();
+    test:assertTrue(copy[0] === frozenArr);
+    test:assertTrue(copy[1] !== arr[1]);
+
+    table<map<int>> tab = table [{a: 1}];
+    anydata[] withTables = [tab, tab];
+    anydata[] tableCopy = withTables.cloneReadOnly();
+    test:assertTrue(tableCopy[0] !== tab);
+    test:assertTrue(tableCopy[0] === tableCopy[1]);
+}
+
 function cloneAnydata() {
     Person p = {id: 100, name: "Alex", salary: 300.5};
     anydata a = p;
@@ -500,6 +500,45 @@ function testErrorCompletion() {
     assertEquality(15, collectResult4[0]);
 }
 
+function testCollectWithAggregatedNonGroupingKeys() {
+    var input = [{name: "Saman", price: 11, rate: 1.5},
+                    {name: "Kamal", price: 20, rate: float:NaN},
+                    {name: "Saman", price: 14, rate: 2.5},
+                    {name: "Amal", price: 5, rate: 0.5}];
+    var x1 = from var {price} in input
+                collect {total: sum(price), max: max(price), count: count(price)};
+    assertEquality({total: 50, max: 20, count: 4}, x1);
+    var x2 = from var {name, price} in input
+                collect [sum(price), count(name)];
+    assertEquality([50, 4], x2);
+    var x3 = from var {name} in input
+                collect [first(name), last(name)];
+    assertEquality(["Saman", "Amal"], x3);
+    var x4 = from var {name} in input
+                collect first(name);
+    assertEquality("Saman", x4);
+    var x5 = from var {name} in input
+                collect last(name);
+    assertEquality("Amal", x5);
+    var x6 = from var {name, price} in input
+                where price > 100
+                collect [sum(price), count(name)];
+    assertEquality([0, 0], x6);
+    var x7 = from var {price} in input
+                where price > 100
+                collect max(price);
+    assertEquality((), x7);
+    var x8 = from var {rate} in input
+                collect sum(rate);
+    assertEquality(true, x8.isNaN());
+    var x9 = from var {rate} in input
+                collect max(rate);
+    assertEquality(true, x9.isNaN());
+    var x10 = from var {price} in input
+                collect sum(price) + int:sum(...[price]);
+    assertEquality(100, x10);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(anydata|error expected, anydata|error actual) {
@@ -975,6 +975,81 @@ function testGroupByExpressionAndSelectWithNonGroupingKeys9() {
     ], quarterlyMin);
 }
 
+function testGroupByWithAggregatedNonGroupingKeys() {
+    var input = [{name: "Saman", price: 11, rate: 1.5, discount: 0.5d, note: "a"},
+                    {name: "Kamal", price: 20, rate: -0.0, discount: 2.25d, note: ()},
+                    {name: "Saman", price: 14, rate: 2.5, discount: 1.50d, note: "b"},
+                    {name: "Kamal", price: 5, rate: 0.0, discount: 2.25d, note: ()},
+                    {name: "Saman", price: 14, rate: 0.5, discount: 0.75d, note: "c"}];
+
+    var x1 = from var {name, price, rate, discount} in input
+                group by name
+                select {name, total: sum(price), maxRate: float:max(rate), minRate: min(rate),
+                        totalDiscount: decimal:sum(discount), maxDiscount: decimal:max(discount)};
+    assertEquality([
+        {name: "Saman", total: 39, maxRate: 2.5, minRate: 0.5, totalDiscount: 2.75d, maxDiscount: 1.50d},
+        {name: "Kamal", total: 25, maxRate: 0.0, minRate: -0.0, totalDiscount: 4.50d, maxDiscount: 2.25d}
+    ], x1);
+
+    var x2 = from var {name, note} in input
+                group by name
+                select {name, count: count(note)};
+    assertEquality([{name: "Saman", count: 3}, {name: "Kamal", count: 0}], x2);
+
+    var x3 = from var {name, note} in input
+                group by name
+                select {name, count: count(note), notes: [note]};
+    assertEquality([{name: "Saman", count: 3, notes: ["a", "b", "c"]}, {name: "Kamal", count: 0, notes: []}], x3);
+
+    var x4 = from var {name, price} in input
+                group by name
+                where count(price) > 2
+                order by count(price) descending
+                select {name, count: value:count(price)};
+    assertEquality([{name: "Saman", count: 3}], x4);
+
+    var x5 = from var {name, price} in input
+                group by name
+                select {name, sum: sum(price), prices: [price]};
+    assertEquality([{name: "Saman", sum: 39, prices: [11, 14, 14]}, {name: "Kamal", sum: 25, prices: [20, 5]}], x5);
+
+    var x6 = from var {name, price} in input
+                group by name
+                select {name, sum: sum(price), max: max(price)};
+    assertEquality([{name: "Saman", sum: 39, max: 14}, {name: "Kamal", sum: 25, max: 20}], x6);
+
+    var x7 = from var {name, price} in input
+                group by name
+                select name;
+    assertEquality(["Saman", "Kamal"], x7);
+}
+
+function testGroupByWithOverflowingIntSum() {
+    var input = [{name: "Saman", price: 11}, {name: "Big", price: int:MAX_VALUE},
+                    {name: "Kamal", price: 20}, {name: "Big", price: 1}, {name: "Big", price: -1}];
+
+    // the overflow is raised only if the sum of the group is used
+    var x1 = from var {name, price} in input
+                group by name
+                where name != "Big"
+                select {name, total: sum(price)};
+    assertEquality([{name: "Saman", total: 11}, {name: "Kamal", total: 20}], x1);
+
+    var x2 = from var {name, price} in input
+                group by name
+                select {name, count: count(price)};
+    assertEquality([{name: "Saman", count: 1}, {name: "Big", count: 3}, {name: "Kamal", count: 1}], x2);
+
+    // a sum which overflowed stays overflowed, as in lang.int:sum
+    {name: string, total: int}[]|error x3 = trap (from var {name, price} in input
+                group by name
+                select {name, total: sum(price)});
+    assertEquality(true, x3 is error);
+    if x3 is error {
+        assertEquality("{ballerina/lang.int}NumberOverflow", x3.message());
+    }
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -259,3 +259,28 @@ function testLetExpressionWithLimitClause() returns boolean {
     testPassed = testPassed && p.firstName == "John" && p.lastName == "David" && p.age == 34;
     return testPassed;
 }
+
+function testLimitClauseBeforeWhereClause() returns boolean {
+    int[] numbers = [1, 2, 3, 4, 5, 6];
+    int[] evenNumbers = from int n in numbers
+        limit 4
+        where n % 2 == 0
+        select n * 10;
+    return evenNumbers == [20, 40];
+}
+
+function testLimitClauseEvaluatedPerRow() returns boolean {
+    int[] numbers = [3, 1, 2, 5, 4];
+    int[] values = from int n in numbers
+        let int lmt = n
+        limit lmt
+        select n;
+    return values == [3, 1];
+}
+
+function testInvalidLimitInQueryExpr() returns int[] {
+    int[] numbers = [1, 2, 3];
+    return from int n in numbers
+        limit 0
+        select n;
+}
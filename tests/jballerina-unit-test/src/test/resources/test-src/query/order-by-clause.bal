@@ -611,6 +611,66 @@ function testQueryExprWithOrderByClauseWithArrayKey() {
     assertEquality([2, 1, 3, 4, 5], q8);
 }
 
+const TOP_K = 3;
+
+function testQueryExprWithOrderByClauseAndConstantLimit() {
+    record {|int id; int score; string? name;|}[] data = [
+        {id: 1, score: 40, name: "c"},
+        {id: 2, score: 70, name: ()},
+        {id: 3, score: 40, name: "a"},
+        {id: 4, score: 90, name: "b"},
+        {id: 5, score: 70, name: "d"},
+        {id: 6, score: 10, name: ()},
+        {id: 7, score: 40, name: "e"}
+    ];
+
+    int[] q1 = from var rec in data
+        order by rec.score descending
+        limit 3
+        select rec.id;
+    assertEquality([4, 2, 5], q1);
+
+    int[] q2 = from var rec in data
+        order by rec.score ascending
+        limit TOP_K
+        select rec.id;
+    assertEquality([6, 1, 3], q2);
+
+    int[] q3 = from var rec in data
+        order by rec.score descending, rec.name ascending
+        limit 5
+        select rec.id;
+    assertEquality([4, 5, 2, 3, 1], q3);
+
+    int[] q4 = from var rec in data
+        order by rec.name descending
+        limit 4
+        select rec.id;
+    assertEquality([7, 5, 1, 4], q4);
+
+    int[] q5 = from var rec in data
+        order by rec.score
+        limit 10
+        select rec.id;
+    assertEquality([6, 1, 3, 7, 2, 5, 4], q5);
+
+    int[] q6 = from var rec in data
+        where rec.score > 10
+        order by rec.score descending
+        limit 1
+        select rec.id;
+    assertEquality([4], q6);
+
+    int[] q7 = from var rec in data
+        order by rec.score descending
+        limit 3
+        select rec.id;
+    int[] q8 = from var rec in data
+        order by rec.score descending
+        select rec.id;
+    assertEquality(q8.slice(0, 3), q7);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected != actual {
         panic error(string `Expected ${expected.toBalString()}, found ${actual.toBalString()}`);
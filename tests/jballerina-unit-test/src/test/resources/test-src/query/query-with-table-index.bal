@@ -0,0 +1,244 @@
+// Copyright (c) 2024, WSO2 LLC. (https://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+type Ticket record {|
+    readonly int id;
+    readonly string status;
+    readonly int priority;
+    string title;
+|};
+
+type TicketTable table<Ticket> key(id);
+
+const OPEN = "OPEN";
+
+final string closedStatus = "CLOSED";
+
+// Number of times the where clauses of the queries were evaluated, which is the number of rows iterated.
+int whereEvaluations = 0;
+
+function counted() returns boolean {
+    whereEvaluations += 1;
+    return true;
+}
+
+function createTickets() returns TicketTable {
+    TicketTable tickets = table [];
+    foreach int i in 0 ..< 20 {
+        tickets.add({id: i, status: i % 4 == 0 ? "OPEN" : "CLOSED", priority: i % 5, title: "ticket" + i.toString()});
+    }
+    return tickets;
+}
+
+function createIndexedTickets() returns TicketTable {
+    TicketTable tickets = createTickets();
+    addIndex(tickets, "status", false);
+    addIndex(tickets, "priority", true);
+    whereEvaluations = 0;
+    return tickets;
+}
+
+function addIndex(table<map<anydata>> tbl, string fieldName, boolean sorted) = @java:Method {
+    'class: "org.ballerinalang.nativeimpl.jvm.tests.StaticMethods",
+    name: "addTableIndex"
+} external;
+
+function testIndexLookupWithLiteral() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = [];
+    from var t in tickets
+    where counted() && t.status == "OPEN"
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(5, whereEvaluations);
+}
+
+function testIndexLookupWithConstant() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = [];
+    from var t in tickets
+    where counted() && t.status == OPEN
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(5, whereEvaluations);
+}
+
+function testIndexLookupWithParameter() {
+    TicketTable tickets = createIndexedTickets();
+    assertEquality([0, 4, 8, 12, 16], getIdsWithStatus(tickets, "OPEN"));
+    assertEquality(5, whereEvaluations);
+
+    whereEvaluations = 0;
+    assertEquality([], getIdsWithStatus(tickets, "PENDING"));
+    assertEquality(0, whereEvaluations);
+}
+
+function getIdsWithStatus(TicketTable tickets, string status) returns int[] {
+    int[] ids = [];
+    from var t in tickets
+    where counted() && t.status == status
+    do {
+        ids.push(t.id);
+    };
+    return ids;
+}
+
+function testIndexLookupWithFinalModuleVariable() {
+    TicketTable tickets = createIndexedTickets();
+    int count = 0;
+    from var t in tickets
+    where counted() && t.status == closedStatus
+    do {
+        count += 1;
+    };
+    assertEquality(15, count);
+    assertEquality(15, whereEvaluations);
+}
+
+function testIndexLookupWithReversedOperands() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = [];
+    from var t in tickets
+    where counted() && "OPEN" == t.status
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(5, whereEvaluations);
+}
+
+function testIndexLookupWithRelationalOperators() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = [];
+    from var t in tickets
+    where counted() && t.priority > 3
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([4, 9, 14, 19], ids);
+    assertEquality(4, whereEvaluations);
+
+    whereEvaluations = 0;
+    ids = [];
+    from var t in tickets
+    where counted() && 3 < t.priority
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([4, 9, 14, 19], ids);
+    assertEquality(4, whereEvaluations);
+
+    whereEvaluations = 0;
+    ids = [];
+    from var t in tickets
+    where counted() && 1 >= t.priority
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 1, 5, 6, 10, 11, 15, 16], ids);
+    assertEquality(8, whereEvaluations);
+}
+
+function testFullScanWithoutUsableIndex() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = [];
+    // the field is not indexed
+    from var t in tickets
+    where counted() && t.title == "ticket3"
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([3], ids);
+    assertEquality(20, whereEvaluations);
+
+    // a hash index cannot be used for ordering comparisons
+    whereEvaluations = 0;
+    int count = 0;
+    from var t in tickets
+    where counted() && t.status < "D"
+    do {
+        count += 1;
+    };
+    assertEquality(15, count);
+    assertEquality(20, whereEvaluations);
+
+    // the value of a local variable may change during the query
+    whereEvaluations = 0;
+    string status = "OPEN";
+    ids = [];
+    from var t in tickets
+    where counted() && t.status == status
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(20, whereEvaluations);
+
+    // the table has no indexes
+    tickets = createTickets();
+    whereEvaluations = 0;
+    ids = [];
+    from var t in tickets
+    where counted() && t.status == "OPEN"
+    do {
+        ids.push(t.id);
+    };
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(20, whereEvaluations);
+}
+
+// Queries selecting into an array are desugared to a loop instead of a stream pipeline.
+function testIndexLookupInQueryExpression() {
+    TicketTable tickets = createIndexedTickets();
+    int[] ids = from var t in tickets
+        where counted() && t.status == "OPEN"
+        select t.id;
+    assertEquality([0, 4, 8, 12, 16], ids);
+    assertEquality(5, whereEvaluations);
+
+    whereEvaluations = 0;
+    string[] titles = from var t in tickets
+        where counted() && 3 < t.priority
+        let string title = t.title
+        limit 2
+        select title;
+    assertEquality(["ticket4", "ticket9"], titles);
+    assertEquality(3, whereEvaluations);
+
+    whereEvaluations = 0;
+    ids = from var t in tickets
+        where counted() && t.title == "ticket3"
+        select t.id;
+    assertEquality([3], ids);
+    assertEquality(20, whereEvaluations);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}